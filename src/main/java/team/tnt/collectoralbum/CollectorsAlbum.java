@@ -4,7 +4,9 @@ import dev.toma.configuration.Configuration;
 import dev.toma.configuration.config.format.ConfigFormats;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.client.itemgroup.FabricItemGroupBuilder;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackType;
@@ -13,13 +15,20 @@ import net.minecraft.world.item.ItemStack;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import team.tnt.collectoralbum.common.AlbumBoostHandler;
+import team.tnt.collectoralbum.common.MobDropAggregator;
+import team.tnt.collectoralbum.common.MobDrops;
 import team.tnt.collectoralbum.common.init.ItemRegistry;
 import team.tnt.collectoralbum.common.init.MenuTypes;
 import team.tnt.collectoralbum.common.init.SoundRegistry;
 import team.tnt.collectoralbum.config.ModConfig;
 import team.tnt.collectoralbum.data.boosts.AlbumCardBoostManager;
+import team.tnt.collectoralbum.data.drops.MobDropTableManager;
 import team.tnt.collectoralbum.data.packs.CardPackLootManager;
+import team.tnt.collectoralbum.data.packs.TagSnapshotCache;
 import team.tnt.collectoralbum.network.Networking;
+import team.tnt.collectoralbum.network.packet.ReportAlbumBoostsHashPacket;
+import team.tnt.collectoralbum.server.AlbumSyncTracker;
+import team.tnt.collectoralbum.server.OpenCardPackContextHolder;
 
 public class CollectorsAlbum implements ModInitializer {
 
@@ -35,9 +44,10 @@ public class CollectorsAlbum implements ModInitializer {
 
     public static final CardPackLootManager CARD_PACK_MANAGER = new CardPackLootManager();
     public static final AlbumCardBoostManager ALBUM_CARD_BOOST_MANAGER = new AlbumCardBoostManager();
+    public static final MobDropTableManager MOB_DROP_TABLE_MANAGER = new MobDropTableManager();
 
     // event handlers
-    private final AlbumBoostHandler boostHandler = new AlbumBoostHandler();
+    public static final AlbumBoostHandler BOOST_HANDLER = new AlbumBoostHandler();
 
     @Override
     public void onInitialize() {
@@ -51,9 +61,20 @@ public class CollectorsAlbum implements ModInitializer {
         ResourceManagerHelper resourceManagerHelper = ResourceManagerHelper.get(PackType.SERVER_DATA);
         resourceManagerHelper.registerReloadListener(CARD_PACK_MANAGER);
         resourceManagerHelper.registerReloadListener(ALBUM_CARD_BOOST_MANAGER);
+        resourceManagerHelper.registerReloadListener(MOB_DROP_TABLE_MANAGER);
         // network
         Networking.registerServerReceivers();
         // callbacks
-        ServerTickEvents.END_SERVER_TICK.register(boostHandler::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(BOOST_HANDLER::onServerTick);
+        ServerPlayConnectionEvents.DISCONNECT.register(BOOST_HANDLER::onPlayerDisconnected);
+        ServerTickEvents.END_SERVER_TICK.register(OpenCardPackContextHolder::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(MobDrops::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(MobDropAggregator::onServerTick);
+        ServerPlayConnectionEvents.DISCONNECT.register(OpenCardPackContextHolder::onPlayerDisconnected);
+        ServerPlayConnectionEvents.DISCONNECT.register(AlbumSyncTracker::onPlayerDisconnected);
+        ServerPlayConnectionEvents.DISCONNECT.register(ReportAlbumBoostsHashPacket::onPlayerDisconnected);
+        ServerLifecycleEvents.SERVER_STARTING.register(TagSnapshotCache::onServerStarting);
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register(TagSnapshotCache::onDataPackReloaded);
+        ServerLifecycleEvents.SERVER_STOPPED.register(MobDropAggregator::onServerStopped);
     }
 }
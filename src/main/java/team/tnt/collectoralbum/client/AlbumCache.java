@@ -0,0 +1,65 @@
+package team.tnt.collectoralbum.client;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import team.tnt.collectoralbum.common.container.IAlbumCache;
+import team.tnt.collectoralbum.network.Networking;
+import team.tnt.collectoralbum.network.packet.AlbumCacheMissPacket;
+import team.tnt.collectoralbum.server.AlbumSyncTracker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Album contents received from server during this session, keyed by album id. Server sends
+ * only changed slots for albums which are cached here, see {@link AlbumSyncTracker}. Installed
+ * into {@link team.tnt.collectoralbum.common.container.AlbumSyncCodec} on client initialization.
+ */
+@Environment(EnvType.CLIENT)
+public final class AlbumCache implements IAlbumCache {
+
+    public static final AlbumCache INSTANCE = new AlbumCache();
+
+    private static final int CACHED_ALBUMS = AlbumSyncTracker.TRACKED_ALBUMS * 2;
+    private final Map<UUID, CachedAlbum> cache = new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, CachedAlbum> eldest) {
+            return size() > CACHED_ALBUMS;
+        }
+    };
+
+    private AlbumCache() {
+    }
+
+    @Nullable
+    @Override
+    public ItemStack get(UUID albumId, int version) {
+        CachedAlbum cached = cache.get(albumId);
+        return cached != null && cached.version() == version ? cached.album() : null;
+    }
+
+    @Override
+    public void put(UUID albumId, int version, ItemStack album) {
+        cache.put(albumId, new CachedAlbum(version, album));
+    }
+
+    /**
+     * Server resends card slots of the opened menu once it receives the miss
+     */
+    @Override
+    public void onMiss(UUID albumId) {
+        CollectorsAlbumClient.LOGGER.warn("Cached album {} doesn't match server, requesting full album on next opening", albumId);
+        cache.remove(albumId);
+        Networking.dispatchServerPacket(new AlbumCacheMissPacket(albumId));
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private record CachedAlbum(int version, ItemStack album) {
+    }
+}
@@ -2,6 +2,7 @@ package team.tnt.collectoralbum.client;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.screenhandler.v1.ScreenRegistry;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.player.Inventory;
@@ -12,10 +13,13 @@ import team.tnt.collectoralbum.CollectorsAlbum;
 import team.tnt.collectoralbum.api.IAlbumScreenFactory;
 import team.tnt.collectoralbum.client.screen.AlbumScreen;
 import team.tnt.collectoralbum.common.ICardCategory;
+import team.tnt.collectoralbum.common.container.AlbumSyncCodec;
 import team.tnt.collectoralbum.common.init.MenuTypes;
 import team.tnt.collectoralbum.common.menu.AlbumMenu;
+import team.tnt.collectoralbum.data.boosts.AlbumCardBoostCollection;
 import team.tnt.collectoralbum.data.boosts.OpType;
 import team.tnt.collectoralbum.network.Networking;
+import team.tnt.collectoralbum.network.packet.ReportAlbumBoostsHashPacket;
 
 public class CollectorsAlbumClient implements ClientModInitializer {
 
@@ -27,6 +31,7 @@ public class CollectorsAlbumClient implements ClientModInitializer {
     @Override
     public void onInitializeClient() {
         Networking.registerClientReceivers();
+        AlbumSyncCodec.setCache(AlbumCache.INSTANCE);
         ScreenRegistry.register(MenuTypes.ALBUM, (AlbumMenu menu, Inventory inventory, Component title) -> {
             ICardCategory category = menu.getCategory();
             if (category == null) {
@@ -36,6 +41,11 @@ public class CollectorsAlbumClient implements ClientModInitializer {
             return factory.createAlbumScreen(menu, inventory, title);
         });
         ClientTickEvents.START_WORLD_TICK.register(this::handleClientTick);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> AlbumCache.INSTANCE.clear());
+        ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> {
+            long hash = CollectorsAlbum.ALBUM_CARD_BOOST_MANAGER.getBoosts().map(AlbumCardBoostCollection::getNetworkHash).orElse(0L);
+            Networking.dispatchServerPacket(new ReportAlbumBoostsHashPacket(hash));
+        });
     }
 
     public void handleClientTick(Level level) {
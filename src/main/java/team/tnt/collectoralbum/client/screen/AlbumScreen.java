@@ -16,18 +16,13 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.inventory.Slot;
 import org.lwjgl.glfw.GLFW;
 import team.tnt.collectoralbum.CollectorsAlbum;
+import team.tnt.collectoralbum.api.IAlbumScreenFactory;
 import team.tnt.collectoralbum.common.AlbumStats;
 import team.tnt.collectoralbum.common.ICardCategory;
 import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
 import team.tnt.collectoralbum.common.item.CardRarity;
-import team.tnt.collectoralbum.common.item.ICard;
 import team.tnt.collectoralbum.common.menu.AlbumMenu;
-import team.tnt.collectoralbum.network.Networking;
-import team.tnt.collectoralbum.network.packet.RequestAlbumPagePacket;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -45,7 +40,7 @@ public class AlbumScreen extends AbstractContainerScreen<AlbumMenu> {
     private static final Function<Integer, MutableComponent> TEXT_POINTS = points -> Component.translatable("text.collectorsalbum.album.points", points);
     private static final BiFunction<Integer, Integer, MutableComponent> TEXT_TOTAL_CARDS = (cards, total) -> Component.translatable("text.collectorsalbum.album.total_cards", cards, total);
 
-    private final int pageIndex;
+    private int pageIndex;
     private AlbumStats stats;
 
     public AlbumScreen(AlbumMenu abstractContainerMenu, Inventory inventory, Component component) {
@@ -108,9 +103,8 @@ public class AlbumScreen extends AbstractContainerScreen<AlbumMenu> {
             // rarity pcts
             font.draw(poseStack, TEXT_RARITIES, 27, 55, 0x7C5D4D);
             int i = 0;
-            Map<CardRarity, Integer> byRarity = stats.getCardsByRarity();
             for (CardRarity rarity : CardRarity.values()) {
-                int value = byRarity.getOrDefault(rarity, 0);
+                int value = stats.count(null, rarity);
                 String name = rarity.name();
                 String pct = Math.round(value / (float) stats.getCardsCollected() * 100) + "%";
                 String text = name.substring(0, 1).toUpperCase() + name.substring(1).toLowerCase() + ": " + pct;
@@ -127,9 +121,8 @@ public class AlbumScreen extends AbstractContainerScreen<AlbumMenu> {
             // right page
             font.draw(poseStack, TEXT_CATEGORIES, 164, 35, 0x7C5D4D);
             int j = 0;
-            Map<ICardCategory, List<ICard>> map = stats.getCardsByCategory();
             for (ICardCategory category : CardCategoryRegistry.getValues().stream().sorted().toArray(ICardCategory[]::new)) {
-                int value = Optional.ofNullable(map.get(category)).map(List::size).orElse(0);
+                int value = stats.count(category, null);
                 Component displayName = category.getTranslatedName();
                 String count = value + " / " + category.getCapacity();
                 String text = displayName.getString() + " - " + count;
@@ -167,8 +160,23 @@ public class AlbumScreen extends AbstractContainerScreen<AlbumMenu> {
     protected void changePage(int indexOffset) {
         int nextIndex = this.pageIndex + indexOffset;
         if (nextIndex < 0 || nextIndex > CardCategoryRegistry.getCount()) return;
-        ICardCategory category = nextIndex == 0 ? null : CardCategoryRegistry.byIndex(nextIndex - 1);
-        Networking.dispatchServerPacket(new RequestAlbumPagePacket(category));
+        IAlbumScreenFactory currentFactory = getScreenFactory(menu.getCategory());
+        // flipped locally, server only gets notified to keep its viewed category in sync
+        if (menu.clickMenuButton(minecraft.player, nextIndex)) {
+            minecraft.gameMode.handleInventoryButtonClick(menu.containerId, nextIndex);
+            IAlbumScreenFactory factory = getScreenFactory(menu.getCategory());
+            if (factory != currentFactory) {
+                // same menu stays open, only the screen is swapped for categories with custom screens
+                minecraft.setScreen(factory.createAlbumScreen(menu, minecraft.player.getInventory(), title));
+                return;
+            }
+            this.pageIndex = nextIndex;
+            rebuildWidgets();
+        }
+    }
+
+    private static IAlbumScreenFactory getScreenFactory(ICardCategory category) {
+        return category != null ? category.getAlbumScreenFactory() : IAlbumScreenFactory.DEFAULT;
     }
 
     protected static final class ArrowWidget extends AbstractWidget {
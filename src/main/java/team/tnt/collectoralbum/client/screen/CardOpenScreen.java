@@ -5,6 +5,7 @@ import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.*;
 import com.mojang.math.Matrix4f;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.components.AbstractWidget;
 import net.minecraft.client.gui.components.Widget;
 import net.minecraft.client.gui.components.events.GuiEventListener;
@@ -28,25 +29,40 @@ import team.tnt.collectoralbum.network.packet.RequestCardPackDropPacket;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Consumer;
 
 public class CardOpenScreen extends Screen {
 
     private static final ResourceLocation CARD_BACK = new ResourceLocation(CollectorsAlbum.MODID, "textures/screen/card_back.png");
+    private static final int SUMMARY_CELL_SIZE = 32;
+    private static final int SUMMARY_MIN_CELL_SIZE = 12;
     private final List<ITickableWidget> tickableWidgets = new ArrayList<>();
     private final List<ItemStack> drops;
+    private final int packCount;
+    private final int revealId;
     private int flipsRemaining;
 
-    public CardOpenScreen(List<ItemStack> drops) {
+    public CardOpenScreen(List<ItemStack> drops, int packCount, int revealId) {
         super(Component.literal("Card Open Screen"));
         this.drops = drops;
-        Collections.shuffle(this.drops);
+        this.packCount = packCount;
+        this.revealId = revealId;
+        if (isSummary()) {
+            this.drops.sort(Comparator.comparingInt(CardOpenScreen::getRarityValue).reversed().thenComparing(ItemStack::getCount, Comparator.reverseOrder()));
+        } else {
+            Collections.shuffle(this.drops);
+        }
     }
 
     @Override
     protected void init() {
         tickableWidgets.clear();
+        if (isSummary()) {
+            initSummary();
+            return;
+        }
         int total = drops.size();
         this.flipsRemaining = total;
         int deckWidth = (total - 1) * 65 + 64;
@@ -61,6 +77,36 @@ public class CardOpenScreen extends Screen {
         }
     }
 
+    private void initSummary() {
+        // all cards of bulk opened packs are revealed at once, grid shrinks to fit the screen
+        this.flipsRemaining = 0;
+        int total = drops.size();
+        int size = SUMMARY_CELL_SIZE;
+        int columns = Math.max(1, Math.min(total, (width - 40) / (size + 4)));
+        int rows = (total + columns - 1) / columns;
+        while (rows * (size + 4) > height - 60 && size > SUMMARY_MIN_CELL_SIZE) {
+            size -= 4;
+            columns = Math.max(1, Math.min(total, (width - 40) / (size + 4)));
+            rows = (total + columns - 1) / columns;
+        }
+        int cell = size + 4;
+        int left = (width - columns * cell + 4) / 2;
+        int top = Math.max(30, (height - rows * cell + 4) / 2);
+        for (int i = 0; i < total; i++) {
+            int x = left + (i % columns) * cell;
+            int y = top + (i / columns) * cell;
+            addRenderableWidget(new SummaryWidget(x, y, size, drops.get(i)));
+        }
+    }
+
+    private boolean isSummary() {
+        return packCount > 1;
+    }
+
+    private static int getRarityValue(ItemStack stack) {
+        return stack.getItem() instanceof ICard card ? card.getCardRarity().getValue() : 0;
+    }
+
     @Override
     public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
         if (flipsRemaining == 0) {
@@ -74,7 +120,7 @@ public class CardOpenScreen extends Screen {
     public void onClose() {
         super.onClose();
         if (!CollectorsAlbum.config.requireTurnAllCards || flipsRemaining == 0) {
-            Networking.dispatchServerPacket(new RequestCardPackDropPacket());
+            Networking.dispatchServerPacket(new RequestCardPackDropPacket(revealId));
         }
     }
 
@@ -87,6 +133,9 @@ public class CardOpenScreen extends Screen {
     public void render(PoseStack poseStack, int mouseX, int mouseY, float partialTick) {
         renderBackground(poseStack);
         super.render(poseStack, mouseX, mouseY, partialTick);
+        if (isSummary()) {
+            drawCenteredString(poseStack, font, Component.translatable("text.collectorsalbum.card_pack.summary", packCount), width / 2, 12, 0xFFFFFF);
+        }
     }
 
     @Override
@@ -106,6 +155,42 @@ public class CardOpenScreen extends Screen {
         --flipsRemaining;
     }
 
+    private static final class SummaryWidget extends AbstractWidget {
+
+        private final ResourceLocation itemTexture;
+        private final String countText;
+
+        public SummaryWidget(int x, int y, int size, ItemStack stack) {
+            super(x, y, size, size, stack.getHoverName());
+            this.itemTexture = getItemTexture(stack);
+            this.countText = "x" + stack.getCount();
+            this.active = false;
+        }
+
+        @Override
+        public void renderButton(PoseStack poseStack, int mouseX, int mouseY, float partialTick) {
+            Lighting.setupForFlatItems();
+            RenderSystem.setShader(GameRenderer::getPositionTexShader);
+            RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
+            RenderSystem.setShaderTexture(0, itemTexture);
+            renderTexture(poseStack.last().pose(), x, y, x + width, y + height);
+            Font font = Minecraft.getInstance().font;
+            poseStack.pushPose();
+            poseStack.translate(0, 0, 200);
+            font.drawShadow(poseStack, countText, x + width - font.width(countText), y + height - font.lineHeight + 1, 0xFFFFFF);
+            poseStack.popPose();
+        }
+
+        @Override
+        public void updateNarration(NarrationElementOutput narrationElementOutput) {
+        }
+    }
+
+    private static ResourceLocation getItemTexture(ItemStack stack) {
+        ResourceLocation itemId = Registry.ITEM.getKey(stack.getItem());
+        return new ResourceLocation(itemId.getNamespace(), "textures/item/" + itemId.getPath() + ".png");
+    }
+
     private static final class CardWidget extends AbstractWidget implements ITickableWidget {
 
         private final int targetX;
@@ -128,8 +213,7 @@ public class CardOpenScreen extends Screen {
             this.startY = y;
             this.targetX = targetX;
             this.targetY = targetY;
-            ResourceLocation itemId = Registry.ITEM.getKey(stack.getItem());
-            this.itemTexture = new ResourceLocation(itemId.getNamespace(), "textures/item/" + itemId.getPath() + ".png");
+            this.itemTexture = getItemTexture(stack);
             if (stack.getItem() instanceof ICard card) {
                 this.discoverySound = card.getCardRarity().getDiscoverySound();
             } else {
@@ -1,48 +1,152 @@
 package team.tnt.collectoralbum.common;
 
+import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.server.players.PlayerList;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
 import net.minecraft.world.item.ItemStack;
 import team.tnt.collectoralbum.CollectorsAlbum;
 import team.tnt.collectoralbum.common.init.ItemRegistry;
+import team.tnt.collectoralbum.config.BoostConfig;
 import team.tnt.collectoralbum.data.boosts.*;
 
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public class AlbumBoostHandler {
 
-    public void onServerTick(MinecraftServer server) {
-        PlayerList playerList = server.getPlayerList();
-        for (ServerPlayer player : playerList.getPlayers()) {
-            tickPlayer(player);
-        }
-    }
+    private static final int POLLING_INTERVAL = 50;
 
-    private void tickPlayer(ServerPlayer player) {
-        if (player.level.getGameTime() % 50L != 0L) return;
-        AbstractContainerMenu inventory = player.containerMenu;
-        Optional<AlbumCardBoostCollection> data = CollectorsAlbum.ALBUM_CARD_BOOST_MANAGER.getBoosts();
-        data.ifPresent(ops -> {
-            boolean hasAlbum = false;
-            for (ItemStack stack : inventory.getItems()) {
-                if (stack.getItem() == ItemRegistry.ALBUM) {
-                    applyBoosts(stack, player, ops);
-                    hasAlbum = true;
-                    break;
+    private final Map<UUID, PlayerState> playerStates = new HashMap<>();
+    // reused for all evaluations, handler runs on server thread only
+    private final ActiveBoostContext context = new ActiveBoostContext();
+    private volatile boolean invalidateAll;
+    private int evaluationCursor;
+
+    public void onServerTick(MinecraftServer server) {
+        BoostConfig config = CollectorsAlbum.config.boosts;
+        boolean eventDriven = config.eventDriven;
+        int interval = eventDriven ? config.safetySweepInterval : POLLING_INTERVAL;
+        int budget = config.maxEvaluationsPerTick > 0 ? config.maxEvaluationsPerTick : Integer.MAX_VALUE;
+        int tick = server.getTickCount();
+        boolean invalidate = invalidateAll;
+        invalidateAll = false;
+        ProfilerFiller profiler = server.getProfiler();
+        profiler.push("collectorsalbum_boosts");
+        List<ServerPlayer> players = server.getPlayerList().getPlayers();
+        int playerCount = players.size();
+        int processed = 0;
+        for (int i = 0; i < playerCount; i++) {
+            // rotate starting player, so players deferred by evaluation budget don't starve
+            ServerPlayer player = players.get((evaluationCursor + i) % playerCount);
+            PlayerState state = getState(player);
+            if (invalidate || Math.floorMod(tick - state.hash, interval) == 0) {
+                state.scheduled = true;
+            }
+            if (eventDriven && player.level.getGameTime() >= state.effectTracker.getRefreshTime()) {
+                state.dirty = true;
+            }
+            if (eventDriven && state.checkAlbum) {
+                state.checkAlbum = false;
+                if (state.album != AlbumSlotCache.findAlbum(player)) {
+                    state.dirty = true;
                 }
             }
-            if (!hasAlbum) {
-                IBoostContext callCtx = new SimpleBoostContext(player);
-                ops.processOp(OpType.CLEANUP, callCtx);
+            if (processed >= budget || !(state.scheduled || eventDriven && state.dirty)) {
+                continue;
             }
-        });
+            state.scheduled = false;
+            state.dirty = false;
+            evaluate(player, state);
+            ++processed;
+            profiler.incrementCounter("collectorsalbum_boost_evaluations");
+        }
+        evaluationCursor = playerCount > 0 ? (evaluationCursor + processed) % playerCount : 0;
+        profiler.pop();
     }
 
-    private void applyBoosts(ItemStack album, ServerPlayer player, AlbumCardBoostCollection ops) {
-        AlbumStats stats = AlbumStats.createSimplifiedWithoutContainer(album);
-        IBoostContext ctx = new ActiveBoostContext(player, stats);
-        ops.processOp(OpType.ACTIVE, ctx);
+    public void onPlayerDisconnected(ServerGamePacketListenerImpl handler, MinecraftServer server) {
+        playerStates.remove(handler.getPlayer().getUUID());
+    }
+
+    /**
+     * Schedules boost re-evaluation of all online players, used after boosts are reloaded
+     */
+    public void invalidateAll() {
+        invalidateAll = true;
+    }
+
+    public void markDirty(ServerPlayer player) {
+        getState(player).dirty = true;
+    }
+
+    public void markAlbumCheck(ServerPlayer player) {
+        getState(player).checkAlbum = true;
+    }
+
+    public void onMenuInitialized(ServerPlayer player, AbstractContainerMenu menu) {
+        menu.addSlotListener(new AlbumSlotListener(this, player));
+        markAlbumCheck(player);
+    }
+
+    private PlayerState getState(ServerPlayer player) {
+        return playerStates.computeIfAbsent(player.getUUID(), uuid -> new PlayerState(HashCommon.mix(uuid.hashCode())));
+    }
+
+    private void evaluate(ServerPlayer player, PlayerState state) {
+        AlbumCardBoostCollection ops = CollectorsAlbum.ALBUM_CARD_BOOST_MANAGER.getBoosts().orElse(null);
+        if (ops == null) return;
+        ItemStack album = AlbumSlotCache.findAlbum(player);
+        BoostEffectTracker effectTracker = state.effectTracker;
+        state.album = album;
+        effectTracker.begin();
+        context.set(SimpleBoostContext.PLAYER_KEY, player).set(SimpleBoostContext.EFFECT_TRACKER_KEY, effectTracker);
+        if (!album.isEmpty()) {
+            context.set(ActiveBoostContext.STATS_KEY, AlbumStats.createSimplifiedWithoutContainer(album));
+            ops.processOp(OpType.ACTIVE, context);
+        } else {
+            ops.processOp(OpType.CLEANUP, context);
+        }
+        context.clear();
+        effectTracker.finish(player);
+    }
+
+    private static final class PlayerState {
+
+        // spreads scheduled evaluations of players across the evaluation interval
+        private final int hash;
+        private final BoostEffectTracker effectTracker = new BoostEffectTracker();
+        private boolean scheduled = true;
+        private boolean dirty;
+        private boolean checkAlbum;
+        private ItemStack album = ItemStack.EMPTY;
+
+        PlayerState(int hash) {
+            this.hash = hash;
+        }
+    }
+
+    private record AlbumSlotListener(AlbumBoostHandler handler, ServerPlayer player) implements ContainerListener {
+
+        @Override
+        public void slotChanged(AbstractContainerMenu containerToSend, int dataSlotIndex, ItemStack stack) {
+            if (stack.getItem() == ItemRegistry.ALBUM) {
+                // album moved into inventory or its content has changed
+                ((IAlbumHolder) player).collectorsalbum$getAlbumSlotCache().invalidate();
+                handler.markDirty(player);
+            } else {
+                // slot change might have removed the album
+                handler.markAlbumCheck(player);
+            }
+        }
+
+        @Override
+        public void dataChanged(AbstractContainerMenu containerMenu, int dataSlotIndex, int value) {
+        }
     }
 }
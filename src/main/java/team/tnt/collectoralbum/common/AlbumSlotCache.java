@@ -0,0 +1,45 @@
+package team.tnt.collectoralbum.common;
+
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import team.tnt.collectoralbum.common.init.ItemRegistry;
+
+/**
+ * Remembers inventory slot of player's album. Cached slot is used as long as it still holds an album and
+ * the inventory has not changed since, otherwise inventory is scanned again and first album in inventory
+ * order is used.
+ */
+public final class AlbumSlotCache {
+
+    private int slot = -1;
+    private int inventoryChanges = -1;
+
+    public static ItemStack findAlbum(Player player) {
+        return ((IAlbumHolder) player).collectorsalbum$getAlbumSlotCache().find(player.getInventory());
+    }
+
+    public ItemStack find(Inventory inventory) {
+        int changes = inventory.getTimesChanged();
+        if (slot >= 0 && slot < inventory.getContainerSize() && changes == inventoryChanges) {
+            ItemStack stack = inventory.getItem(slot);
+            if (stack.getItem() == ItemRegistry.ALBUM) {
+                return stack;
+            }
+        }
+        inventoryChanges = changes;
+        for (int i = 0; i < inventory.getContainerSize(); i++) {
+            ItemStack stack = inventory.getItem(i);
+            if (stack.getItem() == ItemRegistry.ALBUM) {
+                slot = i;
+                return stack;
+            }
+        }
+        slot = -1;
+        return ItemStack.EMPTY;
+    }
+
+    public void invalidate() {
+        slot = -1;
+    }
+}
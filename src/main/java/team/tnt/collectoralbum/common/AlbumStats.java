@@ -1,11 +1,12 @@
 package team.tnt.collectoralbum.common;
 
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
 import team.tnt.collectoralbum.common.container.AlbumContainer;
+import team.tnt.collectoralbum.common.container.AlbumStorageFormat;
 import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
 import team.tnt.collectoralbum.common.init.CardRegistry;
 import team.tnt.collectoralbum.common.item.CardRarity;
@@ -15,14 +16,25 @@ import java.util.*;
 
 public class AlbumStats {
 
+    private static final CardRarity[] RARITIES = CardRarity.values();
+
     private final int cardsCollected;
     private final int totalCards;
-    private final Map<CardRarity, Integer> cardsByRarity = new EnumMap<>(CardRarity.class);
-    private final Map<ICardCategory, List<ICard>> cardsByCategory;
+    private final int[] counts;
+    // [category index, or category count for any category][rarity ordinal] = cards of at least given rarity,
+    // last rarity column is always zero
+    private final int[][] cumulativeCounts;
+    // flat view used by compiled boost conditions, see viewIndex
+    private final int[] view;
     private final int points;
+    private final CompoundTag cardsSource;
+    private Map<ICardCategory, List<ICard>> cardsByCategory;
+    private Map<CardRarity, Integer> cardsByRarity;
 
     public AlbumStats(AlbumContainer container) {
         this.cardsByCategory = new HashMap<>();
+        this.counts = new int[CardCategoryRegistry.getCount() * RARITIES.length];
+        this.cardsSource = null;
         int collected = 0;
         int pointCounter = 0;
         for (ICardCategory category : CardCategoryRegistry.getValues()) {
@@ -33,7 +45,7 @@ public class AlbumStats {
                     ++collected;
                     cardsByCategory.computeIfAbsent(category, k -> new ArrayList<>()).add(card);
                     CardRarity rarity = card.getCardRarity();
-                    increaseCounter(cardsByRarity, rarity);
+                    ++counts[countIndex(category, rarity)];
                     pointCounter += rarity.getValue();
                 }
             }
@@ -41,34 +53,104 @@ public class AlbumStats {
         this.cardsCollected = collected;
         this.totalCards = CardRegistry.count();
         this.points = pointCounter;
+        this.cumulativeCounts = accumulate(counts);
+        this.view = createView(cumulativeCounts, pointCounter);
     }
 
-    private AlbumStats(int cards, int points, Map<ICardCategory, List<ICard>> byCategory) {
+    private AlbumStats(int cards, int points, int[] counts, Map<ICardCategory, List<ICard>> byCategory, CompoundTag cardsSource) {
         this.cardsCollected = cards;
         this.totalCards = CardRegistry.count();
         this.points = points;
+        this.counts = counts;
         this.cardsByCategory = byCategory;
+        this.cardsSource = cardsSource;
+        this.cumulativeCounts = accumulate(counts);
+        this.view = createView(cumulativeCounts, points);
+    }
+
+    /**
+     * Creates stats from raw counts in [category index * rarity count + rarity ordinal] layout
+     */
+    public static AlbumStats ofCounts(int[] counts) {
+        int collected = 0;
+        int points = 0;
+        for (int i = 0; i < counts.length; i++) {
+            collected += counts[i];
+            points += counts[i] * RARITIES[i % RARITIES.length].getValue();
+        }
+        return new AlbumStats(collected, points, counts.clone(), null, new CompoundTag());
     }
 
     public static AlbumStats createSimplifiedWithoutContainer(ItemStack album) {
         CompoundTag tag = album.getOrCreateTag();
-        CompoundTag inventories = tag.getCompound("inventories");
+        CompoundTag cards = AlbumStorageFormat.getCards(tag);
+        if (!AlbumStorageFormat.isLegacy(tag) && tag.contains(AlbumStorageFormat.TAG_SUMMARY, Tag.TAG_COMPOUND)) {
+            AlbumStats stats = fromSummary(tag.getCompound(AlbumStorageFormat.TAG_SUMMARY), cards);
+            if (stats != null) {
+                return stats;
+            }
+        }
+        return fromCards(cards);
+    }
+
+    public static AlbumStats fromCards(CompoundTag cards) {
         int cardCounter = 0;
         int pointCounter = 0;
-        Map<ICardCategory, List<ICard>> byCategory = new HashMap<>();
+        int[] counts = new int[CardCategoryRegistry.getCount() * RARITIES.length];
         for (ICardCategory category : CardCategoryRegistry.getValues()) {
-            ListTag slots = inventories.getList(category.getId().toString(), Tag.TAG_COMPOUND);
-            for (int i = 0; i < slots.size(); i++) {
-                CompoundTag slotDef = slots.getCompound(i);
-                ItemStack item = ItemStack.of(slotDef.getCompound("itemStack"));
-                if (item.getItem() instanceof ICard card) {
+            AlbumStorageFormat.CategoryData data = AlbumStorageFormat.CategoryData.read(category, cards);
+            for (int i = 0; i < data.getCapacity(); i++) {
+                ICard card = getCard(data, i);
+                if (card != null) {
                     cardCounter++;
                     pointCounter += card.getCardRarity().getValue();
+                    ++counts[countIndex(category, card.getCardRarity())];
+                }
+            }
+        }
+        return new AlbumStats(cardCounter, pointCounter, counts, null, cards);
+    }
+
+    private static Map<ICardCategory, List<ICard>> collectCardsByCategory(CompoundTag cards) {
+        Map<ICardCategory, List<ICard>> byCategory = new HashMap<>();
+        for (ICardCategory category : CardCategoryRegistry.getValues()) {
+            AlbumStorageFormat.CategoryData data = AlbumStorageFormat.CategoryData.read(category, cards);
+            for (int i = 0; i < data.getCapacity(); i++) {
+                ICard card = getCard(data, i);
+                if (card != null) {
                     byCategory.computeIfAbsent(category, k -> new ArrayList<>()).add(card);
                 }
             }
         }
-        return new AlbumStats(cardCounter, pointCounter, byCategory);
+        return byCategory;
+    }
+
+    private static ICard getCard(AlbumStorageFormat.CategoryData data, int slot) {
+        if (data.isEmpty(slot)) {
+            return null;
+        }
+        ICard card = data.getCard(slot);
+        if (card == null && data.getItem(slot).getItem() instanceof ICard extraCard) {
+            card = extraCard;
+        }
+        return card;
+    }
+
+    private static AlbumStats fromSummary(CompoundTag summary, CompoundTag cards) {
+        int[] counts = summary.getIntArray("counts");
+        if (counts.length != CardCategoryRegistry.getCount() * RARITIES.length || summary.getInt("checksum") != AlbumStorageFormat.checksum(cards)) {
+            return null;
+        }
+        return new AlbumStats(summary.getInt("collected"), summary.getInt("points"), counts.clone(), null, cards);
+    }
+
+    public CompoundTag writeSummary(int checksum) {
+        CompoundTag summary = new CompoundTag();
+        summary.putInt("checksum", checksum);
+        summary.putInt("collected", cardsCollected);
+        summary.putInt("points", points);
+        summary.putIntArray("counts", counts.clone());
+        return summary;
     }
 
     public int getCardsCollected() {
@@ -79,11 +161,61 @@ public class AlbumStats {
         return totalCards;
     }
 
+    /**
+     * @param category card category or {@code null} for any category
+     * @param rarity card rarity or {@code null} for any rarity
+     * @return amount of collected cards matching both filters
+     */
+    public int count(@Nullable ICardCategory category, @Nullable CardRarity rarity) {
+        int[] row = cumulativeCounts[category != null ? category.getIndex() : cumulativeCounts.length - 1];
+        return rarity != null ? row[rarity.ordinal()] - row[rarity.ordinal() + 1] : row[0];
+    }
+
+    /**
+     * @param category card category or {@code null} for any category
+     * @param minRarity lowest accepted card rarity
+     * @return amount of collected cards in category with at least given rarity
+     */
+    public int countAtLeast(@Nullable ICardCategory category, CardRarity minRarity) {
+        return cumulativeCounts[category != null ? category.getIndex() : cumulativeCounts.length - 1][minRarity.ordinal()];
+    }
+
+    /**
+     * @param category card category or {@code null} for any category
+     * @param rarity card rarity or {@code null} for any rarity
+     * @return index of {@link #count(ICardCategory, CardRarity)} value in stats view
+     */
+    public static int viewIndex(@Nullable ICardCategory category, @Nullable CardRarity rarity) {
+        int categoryIndex = category != null ? category.getIndex() : CardCategoryRegistry.getCount();
+        int rarityIndex = rarity != null ? rarity.ordinal() : RARITIES.length;
+        return categoryIndex * (RARITIES.length + 1) + rarityIndex;
+    }
+
+    public static int pointsViewIndex() {
+        return (CardCategoryRegistry.getCount() + 1) * (RARITIES.length + 1);
+    }
+
+    public int getViewValue(int index) {
+        return view[index];
+    }
+
     public Map<CardRarity, Integer> getCardsByRarity() {
+        if (cardsByRarity == null) {
+            cardsByRarity = new EnumMap<>(CardRarity.class);
+            for (CardRarity rarity : RARITIES) {
+                int count = count(null, rarity);
+                if (count > 0) {
+                    cardsByRarity.put(rarity, count);
+                }
+            }
+        }
         return cardsByRarity;
     }
 
     public Map<ICardCategory, List<ICard>> getCardsByCategory() {
+        if (cardsByCategory == null) {
+            cardsByCategory = collectCardsByCategory(cardsSource);
+        }
         return cardsByCategory;
     }
 
@@ -91,8 +223,34 @@ public class AlbumStats {
         return points;
     }
 
-    private <K> void increaseCounter(Map<K, Integer> map, K key) {
-        int value = map.computeIfAbsent(key, k -> 0) + 1;
-        map.put(key, value);
+    private static int countIndex(ICardCategory category, CardRarity rarity) {
+        return category.getIndex() * RARITIES.length + rarity.ordinal();
+    }
+
+    private static int[][] accumulate(int[] counts) {
+        int categoryCount = counts.length / RARITIES.length;
+        int[][] cumulative = new int[categoryCount + 1][RARITIES.length + 1];
+        for (int category = 0; category < categoryCount; category++) {
+            for (int rarity = RARITIES.length - 1; rarity >= 0; rarity--) {
+                int count = counts[category * RARITIES.length + rarity];
+                cumulative[category][rarity] = cumulative[category][rarity + 1] + count;
+                cumulative[categoryCount][rarity] += cumulative[category][rarity];
+            }
+        }
+        return cumulative;
+    }
+
+    private static int[] createView(int[][] cumulative, int points) {
+        int[] view = new int[cumulative.length * (RARITIES.length + 1) + 1];
+        for (int category = 0; category < cumulative.length; category++) {
+            int[] row = cumulative[category];
+            int offset = category * (RARITIES.length + 1);
+            for (int rarity = 0; rarity < RARITIES.length; rarity++) {
+                view[offset + rarity] = row[rarity] - row[rarity + 1];
+            }
+            view[offset + RARITIES.length] = row[0];
+        }
+        view[view.length - 1] = points;
+        return view;
     }
 }
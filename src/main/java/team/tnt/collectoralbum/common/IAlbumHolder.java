@@ -0,0 +1,6 @@
+package team.tnt.collectoralbum.common;
+
+public interface IAlbumHolder {
+
+    AlbumSlotCache collectorsalbum$getAlbumSlotCache();
+}
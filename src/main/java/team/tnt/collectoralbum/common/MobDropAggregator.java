@@ -0,0 +1,123 @@
+package team.tnt.collectoralbum.common;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import team.tnt.collectoralbum.CollectorsAlbum;
+import team.tnt.collectoralbum.config.MobDropConfig;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spawns mob drops, optionally merging them into package item entity recently dropped nearby.
+ * Drop rates are unaffected, only fewer item entities are created for mob farms.
+ */
+public final class MobDropAggregator {
+
+    private static final int SWEEP_INTERVAL = 200;
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<List<RecentDrop>>> RECENT_DROPS = new HashMap<>();
+
+    private MobDropAggregator() {
+    }
+
+    public static void spawnDrop(LivingEntity entity, ItemStack stack) {
+        Level level = entity.level;
+        MobDropConfig config = CollectorsAlbum.config.mobDrops;
+        if (!config.aggregateDrops) {
+            spawn(entity, stack);
+            return;
+        }
+        Long2ObjectMap<List<RecentDrop>> chunks = RECENT_DROPS.computeIfAbsent(level.dimension(), k -> new Long2ObjectOpenHashMap<>());
+        long time = level.getGameTime();
+        int radius = config.aggregationRadius;
+        // drops are indexed by chunk, so all chunks within merge radius are searched
+        int minX = SectionPos.blockToSectionCoord(Mth.floor(entity.getX() - radius));
+        int maxX = SectionPos.blockToSectionCoord(Mth.floor(entity.getX() + radius));
+        int minZ = SectionPos.blockToSectionCoord(Mth.floor(entity.getZ() - radius));
+        int maxZ = SectionPos.blockToSectionCoord(Mth.floor(entity.getZ() + radius));
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                List<RecentDrop> drops = chunks.get(ChunkPos.asLong(x, z));
+                if (drops != null && tryMerge(drops, entity, stack, time, config)) {
+                    return;
+                }
+            }
+        }
+        chunks.computeIfAbsent(entity.chunkPosition().toLong(), k -> new ArrayList<>()).add(new RecentDrop(spawn(entity, stack), time));
+    }
+
+    public static void onServerStopped(MinecraftServer server) {
+        RECENT_DROPS.clear();
+    }
+
+    public static void onServerTick(MinecraftServer server) {
+        if (server.getTickCount() % SWEEP_INTERVAL != 0 || RECENT_DROPS.isEmpty()) {
+            return;
+        }
+        int window = CollectorsAlbum.config.mobDrops.aggregationWindow;
+        Iterator<Map.Entry<ResourceKey<Level>, Long2ObjectMap<List<RecentDrop>>>> levels = RECENT_DROPS.entrySet().iterator();
+        while (levels.hasNext()) {
+            Map.Entry<ResourceKey<Level>, Long2ObjectMap<List<RecentDrop>>> entry = levels.next();
+            Level level = server.getLevel(entry.getKey());
+            if (level == null) {
+                levels.remove();
+                continue;
+            }
+            long time = level.getGameTime();
+            Long2ObjectMap<List<RecentDrop>> chunks = entry.getValue();
+            chunks.values().removeIf(drops -> {
+                drops.removeIf(drop -> !drop.entity().isAlive() || time - drop.createdAt() > window);
+                return drops.isEmpty();
+            });
+            if (chunks.isEmpty()) {
+                levels.remove();
+            }
+        }
+    }
+
+    private static boolean tryMerge(List<RecentDrop> drops, LivingEntity entity, ItemStack stack, long time, MobDropConfig config) {
+        double maxDistanceSqr = config.aggregationRadius * config.aggregationRadius;
+        Iterator<RecentDrop> iterator = drops.iterator();
+        while (iterator.hasNext()) {
+            RecentDrop drop = iterator.next();
+            ItemEntity itemEntity = drop.entity();
+            if (!itemEntity.isAlive() || time - drop.createdAt() > config.aggregationWindow) {
+                iterator.remove();
+                continue;
+            }
+            ItemStack existing = itemEntity.getItem();
+            if (itemEntity.distanceToSqr(entity) <= maxDistanceSqr
+                    && ItemStack.isSameItemSameTags(existing, stack)
+                    && existing.getCount() + stack.getCount() <= existing.getMaxStackSize()) {
+                ItemStack merged = existing.copy();
+                merged.grow(stack.getCount());
+                // set as new stack, so the change is synced to clients
+                itemEntity.setItem(merged);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ItemEntity spawn(LivingEntity entity, ItemStack stack) {
+        ItemEntity itemEntity = new ItemEntity(entity.level, entity.getX(), entity.getY(), entity.getZ(), stack);
+        itemEntity.setDefaultPickUpDelay();
+        entity.level.addFreshEntity(itemEntity);
+        return itemEntity;
+    }
+
+    private record RecentDrop(ItemEntity entity, long createdAt) {
+    }
+}
@@ -1,27 +1,29 @@
 package team.tnt.collectoralbum.common;
 
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.Items;
 import team.tnt.collectoralbum.CollectorsAlbum;
 import team.tnt.collectoralbum.common.init.ItemRegistry;
+import team.tnt.collectoralbum.config.MobDropConfig;
+import team.tnt.collectoralbum.data.drops.MobDropTable;
+import team.tnt.collectoralbum.util.math.DropRandom;
 import team.tnt.collectoralbum.util.math.WeightedRandom;
 
+import java.util.Arrays;
 import java.util.function.Supplier;
 
 public final class MobDrops implements Supplier<Item> {
 
     private static final MobDrops SINGLETON = new MobDrops();
+    private static final int CONFIG_CHECK_INTERVAL = 20;
 
-    private static final WeightedRandom<DropEntry> ENTRIES = WeightedRandom.Builder.<DropEntry>create()
-            .provider(DropEntry::weight)
-            .append(new DropEntry(() -> Items.AIR, CollectorsAlbum.config.mobDrops.noDropWeight))
-            .append(new DropEntry(() -> ItemRegistry.COMMON_CARD_PACKAGE, CollectorsAlbum.config.mobDrops.commonDropWeight))
-            .append(new DropEntry(() -> ItemRegistry.UNCOMMON_CARD_PACKAGE, CollectorsAlbum.config.mobDrops.uncommonDropWeight))
-            .append(new DropEntry(() -> ItemRegistry.RARE_CARD_PACKAGE, CollectorsAlbum.config.mobDrops.rareDropWeight))
-            .append(new DropEntry(() -> ItemRegistry.EPIC_CARD_PACKAGE, CollectorsAlbum.config.mobDrops.epicDropWeight))
-            .append(new DropEntry(() -> ItemRegistry.LEGENDARY_CARD_PACKAGE, CollectorsAlbum.config.mobDrops.legendaryDropWeight))
-            .append(new DropEntry(() -> ItemRegistry.MYTHICAL_CARD_PACKAGE, CollectorsAlbum.config.mobDrops.mythicalDropWeight))
-            .build(DropEntry[]::new);
+    // rebuilt on server thread when config weights change and published by volatile write, rolls never lock
+    private static volatile DropTable table;
+    private static volatile boolean checkRequested;
+    private static int[] rejectedWeights;
 
     public static MobDrops instance() {
         return SINGLETON;
@@ -29,11 +31,90 @@ public final class MobDrops implements Supplier<Item> {
 
     @Override
     public Item get() {
-        DropEntry randomEntry = ENTRIES.get();
+        DropEntry randomEntry = getTable().entries().get(DropRandom.shared());
         Supplier<Item> itemReferenceHolder = randomEntry.itemRef();
         return itemReferenceHolder.get();
     }
 
+    /**
+     * @return item dropped by entity from its data driven drop table, monsters without one use the configured drops
+     */
+    public static Item getDrop(LivingEntity entity) {
+        MobDropTable dropTable = CollectorsAlbum.MOB_DROP_TABLE_MANAGER.getTable(entity.getType(), entity.level.dimension());
+        if (dropTable != null) {
+            return dropTable.sample(DropRandom.shared());
+        }
+        return entity instanceof Monster ? SINGLETON.get() : Items.AIR;
+    }
+
+    /**
+     * Requests comparison of configured weights with active table on next server tick
+     */
+    public static void requestConfigCheck() {
+        checkRequested = true;
+    }
+
+    public static void onServerTick(MinecraftServer server) {
+        if (!checkRequested && server.getTickCount() % CONFIG_CHECK_INTERVAL != 0) {
+            return;
+        }
+        checkRequested = false;
+        int[] weights = getConfiguredWeights();
+        if (!Arrays.equals(weights, getTable().weights()) && !Arrays.equals(weights, rejectedWeights)) {
+            rebuild(weights);
+        }
+    }
+
+    private static DropTable getTable() {
+        DropTable current = table;
+        if (current == null) {
+            // created lazily, so config callbacks can reach this class before config is loaded
+            current = DropTable.create(getConfiguredWeights());
+            table = current;
+        }
+        return current;
+    }
+
+    private static void rebuild(int[] weights) {
+        try {
+            table = DropTable.create(weights);
+            CollectorsAlbum.LOGGER.info("Rebuilt mob drop table with weights {}", Arrays.toString(weights));
+        } catch (IllegalArgumentException e) {
+            rejectedWeights = weights;
+            CollectorsAlbum.LOGGER.error("Invalid mob drop weights {}, keeping previous drop table", Arrays.toString(weights));
+        }
+    }
+
+    private static int[] getConfiguredWeights() {
+        MobDropConfig config = CollectorsAlbum.config.mobDrops;
+        return new int[] {
+                config.noDropWeight,
+                config.commonDropWeight,
+                config.uncommonDropWeight,
+                config.rareDropWeight,
+                config.epicDropWeight,
+                config.legendaryDropWeight,
+                config.mythicalDropWeight
+        };
+    }
+
+    private record DropTable(int[] weights, WeightedRandom<DropEntry> entries) {
+
+        static DropTable create(int[] weights) {
+            WeightedRandom<DropEntry> entries = WeightedRandom.Builder.<DropEntry>create()
+                    .provider(DropEntry::weight)
+                    .append(new DropEntry(() -> Items.AIR, weights[0]))
+                    .append(new DropEntry(() -> ItemRegistry.COMMON_CARD_PACKAGE, weights[1]))
+                    .append(new DropEntry(() -> ItemRegistry.UNCOMMON_CARD_PACKAGE, weights[2]))
+                    .append(new DropEntry(() -> ItemRegistry.RARE_CARD_PACKAGE, weights[3]))
+                    .append(new DropEntry(() -> ItemRegistry.EPIC_CARD_PACKAGE, weights[4]))
+                    .append(new DropEntry(() -> ItemRegistry.LEGENDARY_CARD_PACKAGE, weights[5]))
+                    .append(new DropEntry(() -> ItemRegistry.MYTHICAL_CARD_PACKAGE, weights[6]))
+                    .build(DropEntry[]::new);
+            return new DropTable(weights, entries);
+        }
+    }
+
     private record DropEntry(Supplier<Item> itemRef, int weight) {
     }
 }
@@ -1,8 +1,6 @@
 package team.tnt.collectoralbum.common.container;
 
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.Tag;
 import net.minecraft.world.Container;
 import net.minecraft.world.ContainerListener;
 import net.minecraft.world.SimpleContainer;
@@ -11,37 +9,38 @@ import team.tnt.collectoralbum.common.AlbumStats;
 import team.tnt.collectoralbum.common.CardCategoryIndexPool;
 import team.tnt.collectoralbum.common.ICardCategory;
 import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
+import team.tnt.collectoralbum.common.item.CardRarity;
+import team.tnt.collectoralbum.common.item.ICard;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 public class AlbumContainer extends SimpleContainer {
-    private final Map<ICardCategory, SimpleContainer> inventoriesByCategory = new HashMap<>();
+    private static final CardRarity[] RARITIES = CardRarity.values();
+
+    private final Map<ICardCategory, CategoryStorage> inventoriesByCategory = new HashMap<>();
+    // summary counts in AlbumStats.ofCounts layout, counted when loading and updated by slot writes
+    private final int[] counts = new int[CardCategoryRegistry.getCount() * RARITIES.length];
 
     public AlbumContainer(ItemStack stack) {
         CompoundTag tag = stack.getOrCreateTag();
-        CompoundTag inventories = tag.getCompound("inventories");
-        CardCategoryRegistry.getValues().forEach(category -> {
-            SimpleContainer container = new SimpleContainer(category.getCapacity());
-            container.addListener(ref -> this.setChanged());
-            inventoriesByCategory.put(category, container);
-        });
+        CompoundTag cards = AlbumStorageFormat.getOrMigrateCards(tag);
         for (ICardCategory category : CardCategoryRegistry.getValues()) {
-            ListTag slots = inventories.getList(category.getId().toString(), Tag.TAG_COMPOUND);
-            for (int i = 0; i < slots.size(); i++) {
-                CompoundTag slotDef = slots.getCompound(i);
-                int slotIndex = slotDef.getInt("slotIndex");
-                CompoundTag itemTag = slotDef.getCompound("itemStack");
-                ItemStack item = ItemStack.of(itemTag);
-                inventoriesByCategory.get(category).setItem(slotIndex, item);
-            }
+            CategoryStorage storage = new CategoryStorage(category, AlbumStorageFormat.CategoryData.read(category, cards), counts);
+            inventoriesByCategory.put(category, storage);
+            // attached after loading, so that reading the album doesn't schedule any writes
+            storage.container.addListener(ref -> {
+                storage.dirty = true;
+                this.setChanged();
+            });
         }
-        this.addListener(new Listener(stack, inventoriesByCategory::get));
+        this.addListener(new Listener(stack, inventoriesByCategory, counts));
     }
 
     public SimpleContainer forCategory(ICardCategory category) {
-        return inventoriesByCategory.get(category);
+        CategoryStorage storage = inventoriesByCategory.get(category);
+        return storage != null ? storage.container : null;
     }
 
     public int getCategoryIndexOffset(ICardCategory category) {
@@ -52,28 +51,112 @@ public class AlbumContainer extends SimpleContainer {
         return new AlbumStats(this);
     }
 
-    private record Listener(ItemStack itemRef,
-                            Function<ICardCategory, SimpleContainer> containerFetcher) implements ContainerListener {
+    private static final class CategoryStorage {
+
+        private final TrackedContainer container;
+        private final AlbumStorageFormat.CategoryData data;
+        private final int countOffset;
+        private final int[] counts;
+        // last state written into the item NBT, used to serialize only slots which have actually changed
+        private final ItemStack[] written;
+        private boolean dirty;
+
+        CategoryStorage(ICardCategory category, AlbumStorageFormat.CategoryData data, int[] counts) {
+            int capacity = data.getCapacity();
+            this.container = new TrackedContainer(capacity);
+            this.data = data;
+            this.countOffset = category.getIndex() * RARITIES.length;
+            this.counts = counts;
+            this.written = new ItemStack[capacity];
+            for (int i = 0; i < capacity; i++) {
+                ItemStack stack = data.getItem(i);
+                container.setItem(i, stack);
+                written[i] = stack.copy();
+                count(stack, 1);
+            }
+            container.changedSlots.clear();
+        }
+
+        boolean writeChangedSlots() {
+            boolean changed = false;
+            BitSet changedSlots = container.changedSlots;
+            for (int i = changedSlots.nextSetBit(0); i >= 0; i = changedSlots.nextSetBit(i + 1)) {
+                ItemStack stack = container.getItem(i);
+                if (ItemStack.matches(written[i], stack)) continue;
+                changed = true;
+                count(written[i], -1);
+                count(stack, 1);
+                data.setItem(i, stack);
+                written[i] = stack.copy();
+            }
+            changedSlots.clear();
+            return changed;
+        }
+
+        private void count(ItemStack stack, int amount) {
+            if (!stack.isEmpty() && stack.getItem() instanceof ICard card) {
+                counts[countOffset + card.getCardRarity().ordinal()] += amount;
+            }
+        }
+    }
+
+    /**
+     * Container which remembers indices of replaced or removed slots, so that only those are written
+     */
+    private static final class TrackedContainer extends SimpleContainer {
+
+        private final BitSet changedSlots;
+
+        TrackedContainer(int size) {
+            super(size);
+            this.changedSlots = new BitSet(size);
+        }
+
+        @Override
+        public void setItem(int index, ItemStack stack) {
+            changedSlots.set(index);
+            super.setItem(index, stack);
+        }
+
+        @Override
+        public ItemStack removeItem(int index, int count) {
+            changedSlots.set(index);
+            return super.removeItem(index, count);
+        }
+
+        @Override
+        public ItemStack removeItemNoUpdate(int index) {
+            changedSlots.set(index);
+            return super.removeItemNoUpdate(index);
+        }
+
+        @Override
+        public void clearContent() {
+            changedSlots.set(0, getContainerSize());
+            super.clearContent();
+        }
+    }
+
+    private record Listener(ItemStack itemRef, Map<ICardCategory, CategoryStorage> storages, int[] counts) implements ContainerListener {
 
         @Override
         public void containerChanged(Container invBasic) {
             CompoundTag tag = itemRef.getOrCreateTag();
-            CompoundTag inventoryTag = new CompoundTag();
+            CompoundTag cards = tag.getCompound(AlbumStorageFormat.TAG_CARDS);
+            boolean changed = false;
             for (ICardCategory category : CardCategoryRegistry.getValues()) {
-                ListTag listTag = new ListTag();
-                SimpleContainer container = containerFetcher.apply(category);
-                for (int i = 0; i < container.getContainerSize(); i++) {
-                    ItemStack stack = container.getItem(i);
-                    if (stack.isEmpty()) continue;
-                    CompoundTag slotDef = new CompoundTag();
-                    slotDef.putInt("slotIndex", i);
-                    slotDef.put("itemStack", stack.save(new CompoundTag()));
-                    listTag.add(slotDef);
+                CategoryStorage storage = storages.get(category);
+                if (!storage.dirty) continue;
+                storage.dirty = false;
+                if (storage.writeChangedSlots()) {
+                    cards.put(category.getId().toString(), storage.data.write());
+                    changed = true;
                 }
-                inventoryTag.put(category.getId().toString(), listTag);
             }
-            tag.put("inventories", inventoryTag);
-            itemRef.setTag(tag);
+            if (changed) {
+                AlbumStorageFormat.putCards(tag, cards, AlbumStats.ofCounts(counts));
+                itemRef.setTag(tag);
+            }
         }
     }
 }
@@ -0,0 +1,255 @@
+package team.tnt.collectoralbum.common.container;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import team.tnt.collectoralbum.common.AlbumStats;
+import team.tnt.collectoralbum.common.CardCategoryIndexPool;
+import team.tnt.collectoralbum.common.ICardCategory;
+import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
+import team.tnt.collectoralbum.common.init.CardRegistry;
+import team.tnt.collectoralbum.common.item.CardItem;
+import team.tnt.collectoralbum.common.item.CardRarity;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Album item storage. Since format version 2 cards are stored as occupancy bitset and 3-bit rarity
+ * array per category, only stacks which cannot be represented this way are kept as full item stacks.
+ * Albums using the legacy {@code inventories} list format are migrated when first opened.
+ */
+public final class AlbumStorageFormat {
+
+    public static final int FORMAT_VERSION = 2;
+    public static final String TAG_VERSION = "formatVersion";
+    public static final String TAG_CARDS = "cards";
+    public static final String TAG_SUMMARY = "summary";
+    public static final String TAG_CONTENT_VERSION = "contentVersion";
+    public static final String TAG_ALBUM_ID = "albumId";
+    public static final String TAG_LEGACY_INVENTORIES = "inventories";
+
+    private static final String TAG_OCCUPIED = "occupied";
+    private static final String TAG_RARITIES = "rarities";
+    private static final String TAG_EXTRA = "extra";
+    private static final int RARITY_BITS = 3;
+    private static final int RARITY_MASK = (1 << RARITY_BITS) - 1;
+    private static final int RARITIES_PER_INT = Integer.SIZE / RARITY_BITS;
+    private static final CardRarity[] RARITIES = CardRarity.values();
+
+    private AlbumStorageFormat() {
+    }
+
+    public static boolean isLegacy(CompoundTag itemTag) {
+        return itemTag.getInt(TAG_VERSION) < FORMAT_VERSION && itemTag.contains(TAG_LEGACY_INVENTORIES, Tag.TAG_COMPOUND);
+    }
+
+    /**
+     * Returns packed card storage of album, legacy albums are converted without modifying the tag
+     */
+    public static CompoundTag getCards(CompoundTag itemTag) {
+        return isLegacy(itemTag) ? convertLegacy(itemTag.getCompound(TAG_LEGACY_INVENTORIES)) : itemTag.getCompound(TAG_CARDS);
+    }
+
+    /**
+     * Returns packed card storage of album, legacy albums are converted and written back into the tag
+     */
+    public static CompoundTag getOrMigrateCards(CompoundTag itemTag) {
+        if (!isLegacy(itemTag)) {
+            return itemTag.getCompound(TAG_CARDS);
+        }
+        CompoundTag cards = convertLegacy(itemTag.getCompound(TAG_LEGACY_INVENTORIES));
+        itemTag.remove(TAG_LEGACY_INVENTORIES);
+        putCards(itemTag, cards);
+        return cards;
+    }
+
+    /**
+     * Writes card storage into album tag together with stats summary rebuilt from all cards
+     */
+    public static void putCards(CompoundTag itemTag, CompoundTag cards) {
+        putCards(itemTag, cards, AlbumStats.fromCards(cards));
+    }
+
+    /**
+     * Writes card storage into album tag together with stats summary maintained by caller, summary is validated by checksum on read
+     */
+    public static void putCards(CompoundTag itemTag, CompoundTag cards, AlbumStats stats) {
+        itemTag.put(TAG_CARDS, cards);
+        itemTag.putInt(TAG_VERSION, FORMAT_VERSION);
+        itemTag.put(TAG_SUMMARY, stats.writeSummary(checksum(cards)));
+        itemTag.putInt(TAG_CONTENT_VERSION, getContentVersion(itemTag) + 1);
+    }
+
+    /**
+     * @return version of album contents, incremented each time cards are written
+     */
+    public static int getContentVersion(CompoundTag itemTag) {
+        return itemTag.getInt(TAG_CONTENT_VERSION);
+    }
+
+    public static UUID getOrCreateAlbumId(CompoundTag itemTag) {
+        if (!itemTag.hasUUID(TAG_ALBUM_ID)) {
+            itemTag.putUUID(TAG_ALBUM_ID, UUID.randomUUID());
+        }
+        return itemTag.getUUID(TAG_ALBUM_ID);
+    }
+
+    public static int checksum(CompoundTag cards) {
+        int checksum = 31 * FORMAT_VERSION + CardRegistry.count();
+        for (ICardCategory category : CardCategoryRegistry.getValues()) {
+            CompoundTag tag = cards.getCompound(category.getId().toString());
+            int hash = Arrays.hashCode(tag.getIntArray(TAG_OCCUPIED));
+            hash = 31 * hash + Arrays.hashCode(tag.getIntArray(TAG_RARITIES));
+            hash = 31 * hash + tag.getList(TAG_EXTRA, Tag.TAG_COMPOUND).hashCode();
+            checksum += (category.getIndex() + 1) * hash;
+        }
+        return checksum;
+    }
+
+    private static CompoundTag convertLegacy(CompoundTag inventories) {
+        CompoundTag cards = new CompoundTag();
+        for (ICardCategory category : CardCategoryRegistry.getValues()) {
+            String key = category.getId().toString();
+            if (!inventories.contains(key, Tag.TAG_LIST)) continue;
+            CategoryData data = new CategoryData(category);
+            ListTag slots = inventories.getList(key, Tag.TAG_COMPOUND);
+            for (int i = 0; i < slots.size(); i++) {
+                CompoundTag slotDef = slots.getCompound(i);
+                data.setItem(slotDef.getInt("slotIndex"), ItemStack.of(slotDef.getCompound("itemStack")));
+            }
+            cards.put(key, data.write());
+        }
+        return cards;
+    }
+
+    public static final class CategoryData {
+
+        private final int capacity;
+        private final int cardNumberOffset;
+        private final int[] occupied;
+        private final int[] rarities;
+        private final CompoundTag[] extra;
+
+        public CategoryData(ICardCategory category) {
+            this.capacity = category.getCapacity();
+            this.cardNumberOffset = CardCategoryIndexPool.getIndexOffset(category) + 1;
+            this.occupied = new int[(capacity + Integer.SIZE - 1) / Integer.SIZE];
+            this.rarities = new int[(capacity + RARITIES_PER_INT - 1) / RARITIES_PER_INT];
+            this.extra = new CompoundTag[capacity];
+        }
+
+        public static CategoryData read(ICardCategory category, CompoundTag cards) {
+            CategoryData data = new CategoryData(category);
+            CompoundTag tag = cards.getCompound(category.getId().toString());
+            int[] occupied = tag.getIntArray(TAG_OCCUPIED);
+            int[] rarities = tag.getIntArray(TAG_RARITIES);
+            System.arraycopy(occupied, 0, data.occupied, 0, Math.min(occupied.length, data.occupied.length));
+            System.arraycopy(rarities, 0, data.rarities, 0, Math.min(rarities.length, data.rarities.length));
+            ListTag extra = tag.getList(TAG_EXTRA, Tag.TAG_COMPOUND);
+            for (int i = 0; i < extra.size(); i++) {
+                CompoundTag slotDef = extra.getCompound(i);
+                int slotIndex = slotDef.getInt("slotIndex");
+                if (slotIndex >= 0 && slotIndex < data.capacity) {
+                    data.extra[slotIndex] = slotDef;
+                }
+            }
+            return data;
+        }
+
+        public CompoundTag write() {
+            CompoundTag tag = new CompoundTag();
+            tag.putIntArray(TAG_OCCUPIED, occupied.clone());
+            tag.putIntArray(TAG_RARITIES, rarities.clone());
+            ListTag extraList = new ListTag();
+            for (CompoundTag slotDef : extra) {
+                if (slotDef != null) {
+                    extraList.add(slotDef);
+                }
+            }
+            if (!extraList.isEmpty()) {
+                tag.put(TAG_EXTRA, extraList);
+            }
+            return tag;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Compares packed contents without decoding any item stacks
+         */
+        public boolean hasSameContents(CategoryData other) {
+            return Arrays.equals(occupied, other.occupied) && Arrays.equals(rarities, other.rarities) && Arrays.equals(extra, other.extra);
+        }
+
+        public boolean hasSameItem(CategoryData other, int slot) {
+            int word = slot / RARITIES_PER_INT;
+            int rarityMask = RARITY_MASK << (slot % RARITIES_PER_INT * RARITY_BITS);
+            return isCard(slot) == other.isCard(slot)
+                    && (rarities[word] & rarityMask) == (other.rarities[word] & rarityMask)
+                    && Objects.equals(extra[slot], other.extra[slot]);
+        }
+
+        public boolean isCard(int slot) {
+            return (occupied[slot / Integer.SIZE] & (1 << (slot % Integer.SIZE))) != 0;
+        }
+
+        public boolean isEmpty(int slot) {
+            return !isCard(slot) && extra[slot] == null;
+        }
+
+        public CardRarity getRarity(int slot) {
+            int bits = (rarities[slot / RARITIES_PER_INT] >>> (slot % RARITIES_PER_INT * RARITY_BITS)) & RARITY_MASK;
+            return RARITIES[Math.min(bits, RARITIES.length - 1)];
+        }
+
+        @Nullable
+        public CardItem getCard(int slot) {
+            return isCard(slot) ? CardItem.getVariant(cardNumberOffset + slot, getRarity(slot)) : null;
+        }
+
+        public ItemStack getItem(int slot) {
+            if (isCard(slot)) {
+                CardItem card = getCard(slot);
+                return card != null ? new ItemStack(card) : ItemStack.EMPTY;
+            }
+            CompoundTag slotDef = extra[slot];
+            return slotDef != null ? ItemStack.of(slotDef.getCompound("itemStack")) : ItemStack.EMPTY;
+        }
+
+        public void setItem(int slot, ItemStack stack) {
+            if (slot < 0 || slot >= capacity) return;
+            clear(slot);
+            if (stack.isEmpty()) return;
+            if (isPackable(slot, stack)) {
+                CardItem card = (CardItem) stack.getItem();
+                int shift = slot % RARITIES_PER_INT * RARITY_BITS;
+                occupied[slot / Integer.SIZE] |= 1 << (slot % Integer.SIZE);
+                rarities[slot / RARITIES_PER_INT] |= card.getCardRarity().ordinal() << shift;
+            } else {
+                CompoundTag slotDef = new CompoundTag();
+                slotDef.putInt("slotIndex", slot);
+                slotDef.put("itemStack", stack.save(new CompoundTag()));
+                extra[slot] = slotDef;
+            }
+        }
+
+        private void clear(int slot) {
+            occupied[slot / Integer.SIZE] &= ~(1 << (slot % Integer.SIZE));
+            rarities[slot / RARITIES_PER_INT] &= ~(RARITY_MASK << (slot % RARITIES_PER_INT * RARITY_BITS));
+            extra[slot] = null;
+        }
+
+        private boolean isPackable(int slot, ItemStack stack) {
+            return stack.getItem() instanceof CardItem card
+                    && stack.getCount() == 1
+                    && !stack.hasTag()
+                    && card.getCardNumber() == cardNumberOffset + slot;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package team.tnt.collectoralbum.common.container;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
+import team.tnt.collectoralbum.common.init.ItemRegistry;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Wire format of album opening data. Album is sent either whole, or as slots changed since version
+ * already held by client cache. Each album carries checksum of its cards, so client can detect
+ * when applied delta doesn't produce album known to server.
+ */
+public final class AlbumSyncCodec {
+
+    public static final int MODE_FULL = 0;
+    public static final int MODE_DELTA = 1;
+
+    private static IAlbumCache cache = IAlbumCache.NONE;
+
+    private AlbumSyncCodec() {
+    }
+
+    /**
+     * Sets cache used for reading album deltas, only client has one
+     */
+    public static void setCache(IAlbumCache albumCache) {
+        cache = albumCache;
+    }
+
+    public static void writeFull(FriendlyByteBuf buffer, UUID albumId, int version, int checksum, ItemStack album) {
+        writeHeader(buffer, albumId, version, MODE_FULL, checksum);
+        buffer.writeItem(album);
+    }
+
+    public static void writeDelta(FriendlyByteBuf buffer, UUID albumId, int version, int checksum, int baseVersion, List<SlotChange> changes) {
+        writeHeader(buffer, albumId, version, MODE_DELTA, checksum);
+        buffer.writeVarInt(baseVersion);
+        buffer.writeVarInt(changes.size());
+        for (SlotChange change : changes) {
+            buffer.writeVarInt(change.categoryIndex());
+            buffer.writeVarInt(change.slot());
+            buffer.writeItem(change.stack());
+        }
+    }
+
+    public static ItemStack readAlbum(FriendlyByteBuf buffer) {
+        return readAlbum(buffer, cache);
+    }
+
+    /**
+     * Reads album and updates the cache. When delta can't be applied, cache is notified about the miss
+     * and blank album is returned, server then resends contents of the opened menu.
+     * @return copy of the album, which can be freely modified
+     */
+    public static ItemStack readAlbum(FriendlyByteBuf buffer, IAlbumCache albumCache) {
+        UUID albumId = buffer.readUUID();
+        int version = buffer.readVarInt();
+        int mode = buffer.readByte();
+        int checksum = buffer.readInt();
+        ItemStack album;
+        if (mode == MODE_FULL) {
+            album = buffer.readItem();
+        } else {
+            int baseVersion = buffer.readVarInt();
+            int changes = buffer.readVarInt();
+            ItemStack cached = albumCache.get(albumId, baseVersion);
+            if (cached == null) {
+                skipChanges(buffer, changes);
+                albumCache.onMiss(albumId);
+                return new ItemStack(ItemRegistry.ALBUM);
+            }
+            album = cached.copy();
+            if (changes > 0) {
+                AlbumContainer container = new AlbumContainer(album);
+                for (int i = 0; i < changes; i++) {
+                    int categoryIndex = buffer.readVarInt();
+                    int slot = buffer.readVarInt();
+                    container.forCategory(CardCategoryRegistry.byIndex(categoryIndex)).setItem(slot, buffer.readItem());
+                }
+            }
+            if (AlbumStorageFormat.checksum(AlbumStorageFormat.getOrMigrateCards(album.getOrCreateTag())) != checksum) {
+                albumCache.onMiss(albumId);
+                return new ItemStack(ItemRegistry.ALBUM);
+            }
+        }
+        albumCache.put(albumId, version, album);
+        return album.copy();
+    }
+
+    private static void writeHeader(FriendlyByteBuf buffer, UUID albumId, int version, int mode, int checksum) {
+        buffer.writeUUID(albumId);
+        buffer.writeVarInt(version);
+        buffer.writeByte(mode);
+        buffer.writeInt(checksum);
+    }
+
+    private static void skipChanges(FriendlyByteBuf buffer, int changes) {
+        for (int i = 0; i < changes; i++) {
+            buffer.readVarInt();
+            buffer.readVarInt();
+            buffer.readItem();
+        }
+    }
+
+    public record SlotChange(int categoryIndex, int slot, ItemStack stack) {
+    }
+}
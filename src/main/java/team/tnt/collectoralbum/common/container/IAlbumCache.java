@@ -0,0 +1,40 @@
+package team.tnt.collectoralbum.common.container;
+
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Albums received from server, used by {@link AlbumSyncCodec} to apply album deltas
+ */
+public interface IAlbumCache {
+
+    IAlbumCache NONE = new IAlbumCache() {
+        @Override
+        public ItemStack get(UUID albumId, int version) {
+            return null;
+        }
+
+        @Override
+        public void put(UUID albumId, int version, ItemStack album) {
+        }
+
+        @Override
+        public void onMiss(UUID albumId) {
+        }
+    };
+
+    /**
+     * @return cached album of given version or {@code null} when it's not cached, returned stack is not modified by caller
+     */
+    @Nullable
+    ItemStack get(UUID albumId, int version);
+
+    void put(UUID albumId, int version, ItemStack album);
+
+    /**
+     * Called when delta could not be applied to cached album, full album should be requested from server
+     */
+    void onMiss(UUID albumId);
+}
@@ -7,12 +7,13 @@ import net.minecraft.world.item.ItemStack;
 import team.tnt.collectoralbum.CollectorsAlbum;
 import team.tnt.collectoralbum.common.ICardCategory;
 import team.tnt.collectoralbum.common.container.AlbumContainer;
+import team.tnt.collectoralbum.common.container.AlbumSyncCodec;
 import team.tnt.collectoralbum.common.menu.AlbumMenu;
 
 public class MenuTypes {
 
     public static final ExtendedScreenHandlerType<AlbumMenu> ALBUM = new ExtendedScreenHandlerType<>((syncId, inventory, buf) -> {
-        ItemStack stack = buf.readItem();
+        ItemStack stack = AlbumSyncCodec.readAlbum(buf);
         boolean flag = buf.readBoolean();
         ICardCategory category = null;
         if (flag) {
@@ -21,6 +21,7 @@ import team.tnt.collectoralbum.CollectorsAlbum;
 import team.tnt.collectoralbum.client.CollectorsAlbumClient;
 import team.tnt.collectoralbum.common.container.AlbumContainer;
 import team.tnt.collectoralbum.common.menu.AlbumMenu;
+import team.tnt.collectoralbum.server.AlbumSyncTracker;
 
 import java.util.Arrays;
 import java.util.List;
@@ -47,7 +48,7 @@ public class AlbumItem extends Item implements IDeathPersistableItem {
             serverPlayer.openMenu(new ExtendedScreenHandlerFactory() {
                 @Override
                 public void writeScreenOpeningData(ServerPlayer player, FriendlyByteBuf buf) {
-                    buf.writeItem(itemStack);
+                    AlbumSyncTracker.writeAlbum(player, itemStack, buf);
                     buf.writeInt(0);
                 }
 
@@ -1,5 +1,7 @@
 package team.tnt.collectoralbum.common.item;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.Item;
@@ -19,6 +21,7 @@ public class CardItem extends Item implements ICard {
     private static final String TEXT_CARD_RARITY = "card.tooltip.rarity";
     private static final String TEXT_CARD_CATEGORY = "card.tooltip.category";
     private static final String TEXT_CARD_VALUE = "card.tooltip.value";
+    private static final Int2ObjectMap<CardItem[]> VARIANTS = new Int2ObjectOpenHashMap<>();
 
     private final CardDefinition card;
     private final CardRarity rarity;
@@ -29,6 +32,17 @@ public class CardItem extends Item implements ICard {
         this.card = card;
         this.rarity = rarity;
         this.cardNumber = CardCategoryIndexPool.getIndexOffset(card.category()) + card.cardNumber();
+        VARIANTS.computeIfAbsent(cardNumber, k -> new CardItem[CardRarity.values().length])[rarity.ordinal()] = this;
+    }
+
+    @Nullable
+    public static CardItem getVariant(int cardNumber, CardRarity rarity) {
+        CardItem[] variants = VARIANTS.get(cardNumber);
+        return variants != null ? variants[rarity.ordinal()] : null;
+    }
+
+    public int getCardNumber() {
+        return cardNumber;
     }
 
     @Override
@@ -17,9 +17,13 @@ import team.tnt.collectoralbum.data.packs.ICardDropProvider;
 import team.tnt.collectoralbum.network.Networking;
 import team.tnt.collectoralbum.network.packet.OpenCardScreenPacket;
 import team.tnt.collectoralbum.server.OpenCardPackContextHolder;
+import team.tnt.collectoralbum.util.ItemHelper;
+import team.tnt.collectoralbum.util.math.DropRandom;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 public class CardPackItem extends Item {
 
@@ -43,23 +47,44 @@ public class CardPackItem extends Item {
     @Override
     public ItemStack finishUsingItem(ItemStack stack, Level level, LivingEntity livingEntity) {
         if (livingEntity instanceof ServerPlayer player) {
+            int packCount = getOpenedPackCount(player, stack);
             if (!player.isCreative()) {
-                stack.shrink(1);
+                stack.shrink(packCount);
             }
             Optional<ICardDropProvider> optional = CollectorsAlbum.CARD_PACK_MANAGER.getProvider(dropsProviderPath);
             optional.ifPresent(provider -> {
-                List<ItemStack> itemStacks = provider.provideDrops();
-                OpenCardPackContextHolder.store(player, itemStacks);
-                Networking.dispatchClientPacket(player, new OpenCardScreenPacket(itemStacks));
+                RandomGenerator random = DropRandom.forPackOpening(player, dropsProviderPath);
+                List<ItemStack> itemStacks;
+                if (packCount > 1) {
+                    List<ItemStack> drops = new ArrayList<>();
+                    for (int i = 0; i < packCount; i++) {
+                        drops.addAll(provider.provideDrops(random));
+                    }
+                    itemStacks = ItemHelper.mergeStacks(drops);
+                } else {
+                    itemStacks = provider.provideDrops(random);
+                }
+                int revealId = OpenCardPackContextHolder.store(player, itemStacks);
+                Networking.dispatchClientPacket(player, new OpenCardScreenPacket(itemStacks, packCount, revealId));
             });
             ItemCooldowns cooldowns = player.getCooldowns();
-            cooldowns.addCooldown(stack.getItem(), 10);
+            // stack might be empty after opening whole stack
+            cooldowns.addCooldown(this, 10);
         } else {
             livingEntity.playSound(SoundRegistry.OPEN, 0.8f, 1.0f);
         }
         return stack;
     }
 
+    private static int getOpenedPackCount(Player player, ItemStack stack) {
+        if (!player.isShiftKeyDown()) {
+            return 1;
+        }
+        int limit = CollectorsAlbum.config.bulkOpenCount;
+        // capped by stack size in creative too, even though the stack isn't consumed there
+        return Math.max(1, Math.min(limit, stack.getCount()));
+    }
+
     @Override
     public InteractionResultHolder<ItemStack> use(Level level, Player player, InteractionHand usedHand) {
         ItemStack stack = player.getItemInHand(usedHand);
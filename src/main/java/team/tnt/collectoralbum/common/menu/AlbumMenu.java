@@ -1,11 +1,17 @@
 package team.tnt.collectoralbum.common.menu;
 
+import com.mojang.datafixers.util.Pair;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.core.NonNullList;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.Container;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.inventory.ContainerSynchronizer;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.Nullable;
@@ -16,39 +22,69 @@ import team.tnt.collectoralbum.common.CardCategory;
 import team.tnt.collectoralbum.common.CardCategoryIndexPool;
 import team.tnt.collectoralbum.common.ICardCategory;
 import team.tnt.collectoralbum.common.container.AlbumContainer;
+import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
 import team.tnt.collectoralbum.common.init.MenuTypes;
 import team.tnt.collectoralbum.common.item.CardRarity;
 import team.tnt.collectoralbum.common.item.ICard;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
 public class AlbumMenu extends AbstractContainerMenu {
 
     private final AlbumContainer container;
+    // player slots laid out by each distinct distributor, only group of the viewed page is active
+    private final List<PlayerSlotGroup> playerSlotGroups = new ArrayList<>();
+    // index of first card slot for each category, indexed by category index
+    private final int[] categorySlotOffsets;
     @Nullable
-    private final ICardCategory category;
+    private ICardCategory category;
+    // card slots are filled from album opening data, so initial contents sent on both sides leave them out
+    private boolean initialContentsSent;
+    private boolean initialContentsReceived;
 
     public AlbumMenu(AlbumContainer container, Inventory playerInventory, int id) {
         this(container, playerInventory, id, null);
     }
 
+    /**
+     * Card slots of all categories are created up front and only those of the viewed category are active,
+     * so that pages can be flipped without opening new menu. Player slots are laid out once by each distinct
+     * category slot distributor and only the group of the viewed page is active, so distributors keep control
+     * over player inventory layout. Cards are already known to client from album opening data, so initial
+     * menu synchronization doesn't carry card slots of any category and the only extra synchronized slots
+     * are player slot groups of custom distributors.
+     */
     public AlbumMenu(AlbumContainer container, Inventory playerInventory, int id, @Nullable ICardCategory category) {
         super(MenuTypes.ALBUM, id);
         this.container = container;
         this.category = category;
 
-        SimpleContainer categoryContainer = container.forCategory(category);
-        ICategorySlotDistributor slotDistributor = category != null ? category.getMenuSlotDistributor() : CardCategory.DISTRIBUTOR;
-        ISlotAppender<Slot> playerSlotAppender = this::addSlot;
-        slotDistributor.addPlayerSlots(playerSlotAppender, playerInventory);
-        if (category == null) return;
-        int offset = 1 + container.getCategoryIndexOffset(category);
-        ISlotAppender<CardSlotDefinition> appender = definition -> addSlot(new CardSlot(categoryContainer, definition.slotIndex(), definition.slotX(), definition.slotY(), definition.cardNumber()));
-        for (int i = 0; i < category.getCapacity(); i++) {
-            slotDistributor.distributeSlot(appender, i, offset);
+        this.addPlayerSlots(CardCategory.DISTRIBUTOR, playerInventory);
+        for (ICardCategory slotCategory : CardCategoryRegistry.getValues()) {
+            this.addPlayerSlots(slotCategory.getMenuSlotDistributor(), playerInventory);
+        }
+        int categoryCount = CardCategoryRegistry.getCount();
+        this.categorySlotOffsets = new int[categoryCount];
+        for (int categoryIndex = 0; categoryIndex < categoryCount; categoryIndex++) {
+            ICardCategory slotCategory = CardCategoryRegistry.byIndex(categoryIndex);
+            SimpleContainer categoryContainer = container.forCategory(slotCategory);
+            ICategorySlotDistributor slotDistributor = slotCategory.getMenuSlotDistributor();
+            int offset = 1 + container.getCategoryIndexOffset(slotCategory);
+            categorySlotOffsets[categoryIndex] = slots.size();
+            ISlotAppender<CardSlotDefinition> appender = definition -> addSlot(new CardSlot(categoryContainer, definition.slotIndex(), definition.slotX(), definition.slotY(), definition.cardNumber(), () -> slotCategory.equals(this.category)));
+            for (int i = 0; i < slotCategory.getCapacity(); i++) {
+                slotDistributor.distributeSlot(appender, i, offset);
+            }
         }
         this.addSlotListener(new ContainerListener() {
             @Override
             public void slotChanged(AbstractContainerMenu containerToSend, int dataSlotIndex, ItemStack stack) {
-                categoryContainer.setChanged();
+                Slot slot = slots.get(dataSlotIndex);
+                if (slot instanceof CardSlot) {
+                    slot.container.setChanged();
+                }
             }
 
             @Override
@@ -57,6 +93,42 @@ public class AlbumMenu extends AbstractContainerMenu {
         });
     }
 
+    /**
+     * Switches viewed page, client calls this locally and notifies server with the page index as menu button id
+     */
+    @Override
+    public boolean clickMenuButton(Player player, int id) {
+        if (id < 0 || id > CardCategoryRegistry.getCount()) {
+            return false;
+        }
+        this.category = id == 0 ? null : CardCategoryRegistry.byIndex(id - 1);
+        return true;
+    }
+
+    @Override
+    public void setSynchronizer(ContainerSynchronizer synchronizer) {
+        super.setSynchronizer(new InitialCardFilter(synchronizer));
+    }
+
+    /**
+     * Client keeps card slots read from album opening data on first contents update, later updates
+     * are full resynchronizations and are applied as they are
+     */
+    @Override
+    public void initializeContents(int stateId, List<ItemStack> items, ItemStack carried) {
+        if (initialContentsReceived) {
+            super.initializeContents(stateId, items, carried);
+            return;
+        }
+        initialContentsReceived = true;
+        for (int i = 0; i < items.size(); i++) {
+            if (!(slots.get(i) instanceof CardSlot)) {
+                setItem(i, stateId, items.get(i));
+            }
+        }
+        setCarried(carried);
+    }
+
     @Override
     public ItemStack quickMoveStack(Player player, int index) {
         ItemStack itemStack = ItemStack.EMPTY;
@@ -64,13 +136,16 @@ public class AlbumMenu extends AbstractContainerMenu {
         if (slot != null && slot.hasItem()) {
             ItemStack slotItem = slot.getItem();
             itemStack = slotItem.copy();
+            PlayerSlotGroup playerSlots = getActivePlayerSlots();
+            int playerStart = playerSlots.start();
+            int playerEnd = playerStart + playerSlots.size();
+            int hotbarStart = playerEnd - Inventory.getSelectionSize();
             if (category != null) {
-                int categorySize = category.getCapacity();
                 // inventory to album
-                if (index >= 0 && index < 36) {
+                if (index >= playerStart && index < playerEnd) {
                     if (this.isValidCard(slotItem)) {
                         ICard card = (ICard) slotItem.getItem();
-                        int targetSlotIndex = card.getCard().cardNumber() + 35;
+                        int targetSlotIndex = categorySlotOffsets[category.getIndex()] + card.getCard().cardNumber() - 1;
                         Slot targetSlot = this.slots.get(targetSlotIndex);
                         if (slot != null) {
                             ItemStack stack = targetSlot.getItem();
@@ -93,18 +168,18 @@ public class AlbumMenu extends AbstractContainerMenu {
                             }
                         }
                     }
-                } else if (index >= 36 && index < 36 + categorySize) {
-                    if (!this.moveItemStackTo(slotItem, 0, 36, true)) {
+                } else if (slot instanceof CardSlot) {
+                    if (!this.moveItemStackTo(slotItem, playerStart, playerEnd, true)) {
                         return ItemStack.EMPTY;
                     }
                 }
             } else {
-                if (index >= 0 && index < 27) {
-                    if (this.moveItemStackTo(slotItem, 27, 36, false)) {
+                if (index >= playerStart && index < hotbarStart) {
+                    if (this.moveItemStackTo(slotItem, hotbarStart, playerEnd, false)) {
                         return ItemStack.EMPTY;
                     }
-                } else if (index >= 27 && index < 36) {
-                    if (this.moveItemStackTo(slotItem, 0, 27, false)) {
+                } else if (index >= hotbarStart && index < playerEnd) {
+                    if (this.moveItemStackTo(slotItem, playerStart, hotbarStart, false)) {
                         return ItemStack.EMPTY;
                     }
                 }
@@ -135,6 +210,31 @@ public class AlbumMenu extends AbstractContainerMenu {
         return category;
     }
 
+    private ICategorySlotDistributor getActiveDistributor() {
+        return category != null ? category.getMenuSlotDistributor() : CardCategory.DISTRIBUTOR;
+    }
+
+    private PlayerSlotGroup getActivePlayerSlots() {
+        ICategorySlotDistributor distributor = getActiveDistributor();
+        for (PlayerSlotGroup group : playerSlotGroups) {
+            if (group.distributor() == distributor) {
+                return group;
+            }
+        }
+        throw new IllegalStateException("No player slots laid out by " + distributor);
+    }
+
+    private void addPlayerSlots(ICategorySlotDistributor distributor, Inventory inventory) {
+        for (PlayerSlotGroup group : playerSlotGroups) {
+            if (group.distributor() == distributor) {
+                return;
+            }
+        }
+        int start = slots.size();
+        distributor.addPlayerSlots(slot -> addSlot(new PlayerSlot(slot, () -> getActiveDistributor() == distributor)), inventory);
+        playerSlotGroups.add(new PlayerSlotGroup(distributor, start, slots.size() - start));
+    }
+
     private boolean isValidCard(ItemStack stack) {
         if (stack.getItem() instanceof ICard card) {
             return card.getCard().category().equals(this.category);
@@ -142,19 +242,124 @@ public class AlbumMenu extends AbstractContainerMenu {
         return false;
     }
 
+    /**
+     * Sends empty card slots with first initial data, remote slots still hold real contents
+     * so following changes are compared against what client actually has
+     */
+    private final class InitialCardFilter implements ContainerSynchronizer {
+
+        private final ContainerSynchronizer synchronizer;
+
+        InitialCardFilter(ContainerSynchronizer synchronizer) {
+            this.synchronizer = synchronizer;
+        }
+
+        @Override
+        public void sendInitialData(AbstractContainerMenu menu, NonNullList<ItemStack> items, ItemStack carried, int[] data) {
+            if (!initialContentsSent) {
+                initialContentsSent = true;
+                NonNullList<ItemStack> filtered = NonNullList.withSize(items.size(), ItemStack.EMPTY);
+                for (int i = 0; i < items.size(); i++) {
+                    if (!(slots.get(i) instanceof CardSlot)) {
+                        filtered.set(i, items.get(i));
+                    }
+                }
+                items = filtered;
+            }
+            synchronizer.sendInitialData(menu, items, carried, data);
+        }
+
+        @Override
+        public void sendSlotChange(AbstractContainerMenu menu, int slot, ItemStack stack) {
+            synchronizer.sendSlotChange(menu, slot, stack);
+        }
+
+        @Override
+        public void sendCarriedChange(AbstractContainerMenu menu, ItemStack stack) {
+            synchronizer.sendCarriedChange(menu, stack);
+        }
+
+        @Override
+        public void sendDataChange(AbstractContainerMenu menu, int id, int value) {
+            synchronizer.sendDataChange(menu, id, value);
+        }
+    }
+
+    private record PlayerSlotGroup(ICategorySlotDistributor distributor, int start, int size) {
+    }
+
+    /**
+     * Player slot provided by category distributor, active only while page of that distributor is viewed
+     */
+    private static final class PlayerSlot extends Slot {
+
+        private final Slot slot;
+        private final BooleanSupplier activeCheck;
+
+        PlayerSlot(Slot slot, BooleanSupplier activeCheck) {
+            super(slot.container, slot.getContainerSlot(), slot.x, slot.y);
+            this.slot = slot;
+            this.activeCheck = activeCheck;
+        }
+
+        @Override
+        public boolean isActive() {
+            return activeCheck.getAsBoolean() && slot.isActive();
+        }
+
+        @Override
+        public boolean mayPlace(ItemStack stack) {
+            return slot.mayPlace(stack);
+        }
+
+        @Override
+        public boolean mayPickup(Player player) {
+            return slot.mayPickup(player);
+        }
+
+        @Override
+        public void onTake(Player player, ItemStack stack) {
+            slot.onTake(player, stack);
+        }
+
+        @Override
+        public int getMaxStackSize() {
+            return slot.getMaxStackSize();
+        }
+
+        @Override
+        public int getMaxStackSize(ItemStack stack) {
+            return slot.getMaxStackSize(stack);
+        }
+
+        @Environment(EnvType.CLIENT)
+        @Nullable
+        @Override
+        public Pair<ResourceLocation, ResourceLocation> getNoItemIcon() {
+            return slot.getNoItemIcon();
+        }
+    }
+
     public static class CardSlot extends Slot {
 
         private final int cardNumber;
+        private final BooleanSupplier activeCheck;
 
-        public CardSlot(Container container, int slotIndex, int slotX, int slotY, int cardNumber) {
+        public CardSlot(Container container, int slotIndex, int slotX, int slotY, int cardNumber, BooleanSupplier activeCheck) {
             super(container, slotIndex, slotX, slotY);
             this.cardNumber = cardNumber;
+            this.activeCheck = activeCheck;
         }
 
         public int getCardNumber() {
             return cardNumber;
         }
 
+        @Override
+        public boolean isActive() {
+            return activeCheck.getAsBoolean();
+        }
+
         @Override
         public int getMaxStackSize() {
             return 1;
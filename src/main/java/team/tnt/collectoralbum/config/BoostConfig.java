@@ -0,0 +1,20 @@
+package team.tnt.collectoralbum.config;
+
+import dev.toma.configuration.config.Configurable;
+
+public class BoostConfig {
+
+    @Configurable
+    @Configurable.Comment("When enabled, album boosts are only re-evaluated after album, inventory or effect changes instead of every 50 ticks")
+    public boolean eventDriven = true;
+
+    @Configurable
+    @Configurable.Range(min = 50, max = 72000)
+    @Configurable.Comment("Interval in ticks in which boosts of all players are re-evaluated when event driven boosts are enabled")
+    public int safetySweepInterval = 1200;
+
+    @Configurable
+    @Configurable.Range(min = 0)
+    @Configurable.Comment("Maximum amount of players whose boosts are evaluated in single tick, 0 for unlimited. Remaining players are processed in following ticks")
+    public int maxEvaluationsPerTick = 0;
+}
@@ -4,6 +4,7 @@ import dev.toma.configuration.client.IValidationHandler;
 import dev.toma.configuration.config.Configurable;
 import dev.toma.configuration.config.validate.ValidationResult;
 import net.minecraft.network.chat.Component;
+import team.tnt.collectoralbum.common.MobDrops;
 
 public class MobDropConfig {
 
@@ -49,7 +50,22 @@ public class MobDropConfig {
     @Configurable.ValueUpdateCallback(method = "validateWeights")
     public int mythicalDropWeight = 70;
 
+    @Configurable
+    @Configurable.Comment("When enabled, card packages dropped close to each other within short time are merged into single item entity")
+    public boolean aggregateDrops = false;
+
+    @Configurable
+    @Configurable.Range(min = 1, max = 6000)
+    @Configurable.Comment("Time in ticks during which new drops can be merged into previously dropped package")
+    public int aggregationWindow = 200;
+
+    @Configurable
+    @Configurable.Range(min = 1, max = 32)
+    @Configurable.Comment("Maximum distance in blocks between killed mob and package which the drop is merged into")
+    public int aggregationRadius = 8;
+
     public void validateWeights(int weight, IValidationHandler handler) {
+        MobDrops.requestConfigCheck();
         if (weight == 0) {
             handler.setValidationResult(ValidationResult.warn(Component.translatable("text.config.collectorsalbum.mob_drops.weight_warning")));
         }
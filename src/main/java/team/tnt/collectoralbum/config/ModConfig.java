@@ -11,6 +11,10 @@ public class ModConfig {
     @Configurable.Comment("Configure card package drop chances from mobs")
     public MobDropConfig mobDrops = new MobDropConfig();
 
+    @Configurable
+    @Configurable.Comment("Configure album boost evaluation")
+    public BoostConfig boosts = new BoostConfig();
+
     @Configurable
     @Configurable.Comment("Keep album in inventory through death")
     public boolean persistAlbumThroughDeath = true;
@@ -19,6 +23,25 @@ public class ModConfig {
     @Configurable.Comment("When set to true no cards will be received from package unless you flip all cards")
     public boolean requireTurnAllCards = false;
 
+    @Configurable
+    @Configurable.Range(min = 1, max = 1024)
+    @Configurable.Comment("Maximum amount of card packs opened at once when card pack is used while sneaking. Set to 1 to disable bulk opening")
+    public int bulkOpenCount = 64;
+
+    @Configurable
+    @Configurable.Comment("When enabled, card pack drops are generated from seed based on world seed, player, pack and game time, which makes them reproducible")
+    public boolean seededPackDrops = false;
+
+    @Configurable
+    @Configurable.Range(min = 1, max = 64)
+    @Configurable.Comment("Maximum amount of opened card packs waiting for reveal per player. When exceeded, drops of the oldest pack are given to the player directly, or discarded when all cards have to be flipped")
+    public int maxPendingReveals = 8;
+
+    @Configurable
+    @Configurable.Range(min = 10, max = 3600)
+    @Configurable.Comment("Time in seconds after which drops of unrevealed card pack are given to the player directly, or discarded when all cards have to be flipped. Drops left after logout are handled the same way")
+    public int pendingRevealExpiry = 300;
+
     @Configurable
     @Configurable.Synchronized
     @Configurable.Comment("When allowed, all unpacked cards will be moved to your album if applicable")
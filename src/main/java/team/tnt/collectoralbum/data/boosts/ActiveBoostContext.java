@@ -6,9 +6,18 @@ import team.tnt.collectoralbum.common.AlbumStats;
 public class ActiveBoostContext extends SimpleBoostContext {
 
     public static final String STATS = "stats";
+    public static final BoostContextKey<AlbumStats> STATS_KEY = BoostContextKey.create(STATS, AlbumStats.class);
+
+    public ActiveBoostContext() {
+    }
 
     public ActiveBoostContext(Player player, AlbumStats stats) {
         super(player);
-        set(STATS, stats);
+        set(STATS_KEY, stats);
+    }
+
+    public ActiveBoostContext(Player player, AlbumStats stats, BoostEffectTracker effectTracker) {
+        super(player, effectTracker);
+        set(STATS_KEY, stats);
     }
 }
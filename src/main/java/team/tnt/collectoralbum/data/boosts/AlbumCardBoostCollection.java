@@ -1,13 +1,24 @@
 package team.tnt.collectoralbum.data.boosts;
 
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
+import team.tnt.collectoralbum.network.DictionaryByteBuf;
 
+import java.io.ByteArrayOutputStream;
 import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 public final class AlbumCardBoostCollection {
 
+    private static final int MAX_PAYLOAD_SIZE = 8 * 1024 * 1024;
+
     private final Map<OpType, IAction[]> byOps = new EnumMap<>(OpType.class);
+    private NetworkPayload networkPayload = new NetworkPayload(0L, 0, new byte[0]);
 
     public AlbumCardBoostCollection(IAction[] cleanUpActions, IAction[] activeActions) {
         byOps.put(OpType.CLEANUP, cleanUpActions);
@@ -19,10 +30,11 @@ public final class AlbumCardBoostCollection {
     }
 
     public void processOp(OpType type, IBoostContext ctx) {
-        Optional.ofNullable(byOps.get(type))
-                .stream()
-                .flatMap(Arrays::stream)
-                .forEach(action -> action.apply(ctx));
+        IAction[] actions = byOps.get(type);
+        if (actions == null) return;
+        for (IAction action : actions) {
+            action.apply(ctx);
+        }
     }
 
     public int getActionsCount(OpType type) {
@@ -52,6 +64,61 @@ public final class AlbumCardBoostCollection {
         }
     }
 
+    /**
+     * @return content hash of active actions, either computed from loaded actions or received from server
+     */
+    public long getNetworkHash() {
+        return networkPayload.hash();
+    }
+
+    public NetworkPayload getNetworkPayload() {
+        return networkPayload;
+    }
+
+    /**
+     * Encodes active actions for clients once after loading, logins then only send the cached payload
+     */
+    public void prepareNetworkPayload() {
+        DictionaryByteBuf buffer = new DictionaryByteBuf(Unpooled.buffer());
+        encode(buffer);
+        byte[] data = new byte[buffer.readableBytes()];
+        buffer.readBytes(data);
+        long hash = data.length;
+        for (byte value : data) {
+            hash = HashCommon.murmurHash3(hash ^ value);
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 2 + 16);
+        byte[] chunk = new byte[1024];
+        while (!deflater.finished()) {
+            compressed.write(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+        this.networkPayload = new NetworkPayload(hash, data.length, compressed.toByteArray());
+    }
+
+    public void readNetworkPayload(NetworkPayload payload) {
+        if (payload.size() < 0 || payload.size() > MAX_PAYLOAD_SIZE) {
+            throw new DecoderException("Invalid album boosts payload size " + payload.size());
+        }
+        byte[] data = new byte[payload.size()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload.compressed());
+            if (inflater.inflate(data) != data.length || !inflater.finished()) {
+                throw new DecoderException("Album boosts payload size mismatch");
+            }
+        } catch (DataFormatException e) {
+            throw new DecoderException("Malformed album boosts payload", e);
+        } finally {
+            inflater.end();
+        }
+        decode(new DictionaryByteBuf(Unpooled.wrappedBuffer(data)));
+        this.networkPayload = payload;
+    }
+
     public void decode(FriendlyByteBuf buffer) {
         int count = buffer.readInt();
         IAction[] actions = new IAction[count];
@@ -60,4 +127,7 @@ public final class AlbumCardBoostCollection {
         }
         this.byOps.put(OpType.ACTIVE, actions);
     }
+
+    public record NetworkPayload(long hash, int size, byte[] compressed) {
+    }
 }
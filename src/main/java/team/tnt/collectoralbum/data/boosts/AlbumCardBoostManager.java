@@ -57,6 +57,8 @@ public class AlbumCardBoostManager extends SimpleJsonResourceReloadListener impl
             }
         }
         this.collection = new AlbumCardBoostCollection(loaded.get(OpType.CLEANUP).toArray(IAction[]::new), loaded.get(OpType.ACTIVE).toArray(IAction[]::new));
+        this.collection.prepareNetworkPayload();
+        CollectorsAlbum.BOOST_HANDLER.invalidateAll();
         LOGGER.info("Album boosts loaded");
     }
 }
@@ -0,0 +1,65 @@
+package team.tnt.collectoralbum.data.boosts;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Typed {@link IBoostContext} parameter. Each key owns unique slot index, so parameters can be stored
+ * in plain arrays instead of maps.
+ */
+public final class BoostContextKey<T> {
+
+    private static final Map<String, BoostContextKey<?>> BY_NAME = new HashMap<>();
+
+    private final String name;
+    private final Class<T> type;
+    private final int index;
+
+    private BoostContextKey(String name, Class<T> type, int index) {
+        this.name = name;
+        this.type = type;
+        this.index = index;
+    }
+
+    public static synchronized <T> BoostContextKey<T> create(String name, Class<T> type) {
+        if (BY_NAME.containsKey(name)) {
+            throw new IllegalStateException("Duplicate boost context key: " + name);
+        }
+        BoostContextKey<T> key = new BoostContextKey<>(name, type, BY_NAME.size());
+        BY_NAME.put(name, key);
+        return key;
+    }
+
+    public static synchronized BoostContextKey<?> byName(String name) {
+        return BY_NAME.get(name);
+    }
+
+    /**
+     * Returns existing key or creates new untyped key, used by string keyed context parameters
+     */
+    public static synchronized BoostContextKey<?> getOrCreate(String name) {
+        BoostContextKey<?> key = BY_NAME.get(name);
+        return key != null ? key : create(name, Object.class);
+    }
+
+    public static synchronized int count() {
+        return BY_NAME.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "BoostContextKey{" + name + "}";
+    }
+}
@@ -0,0 +1,84 @@
+package team.tnt.collectoralbum.data.boosts;
+
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps track of effects granted by album boosts to single player, so effects are only sent to player
+ * when boost outcome changes or when granted effect is about to expire
+ */
+public class BoostEffectTracker {
+
+    private static final int REFRESH_MARGIN = 20;
+
+    private final Map<MobEffect, MobEffectInstance> granted = new HashMap<>();
+    private final Map<MobEffect, MobEffectInstance> pending = new HashMap<>();
+    private long refreshTime = Long.MAX_VALUE;
+
+    public void begin() {
+        pending.clear();
+        refreshTime = Long.MAX_VALUE;
+    }
+
+    /**
+     * @param entity entity receiving the effect
+     * @param instance effect to grant
+     * @param replace whether active effect with different amplifier should be replaced by the new effect
+     */
+    public void grant(LivingEntity entity, MobEffectInstance instance, boolean replace) {
+        MobEffect effect = instance.getEffect();
+        pending.put(effect, instance);
+        MobEffectInstance active = entity.getEffect(effect);
+        int margin = Math.min(REFRESH_MARGIN, instance.getDuration() / 2);
+        if (active == null || !isSameOutcome(active, instance, replace) || active.getDuration() <= margin) {
+            if (replace && active != null && active.getAmplifier() != instance.getAmplifier()) {
+                entity.removeEffect(effect);
+            }
+            entity.addEffect(instance);
+            active = entity.getEffect(effect);
+        }
+        if (active != null) {
+            refreshTime = Math.min(refreshTime, entity.level.getGameTime() + active.getDuration() - margin);
+        }
+    }
+
+    /**
+     * Removes effects which were granted during previous evaluation, but are no longer part of boost outcome
+     */
+    public void finish(LivingEntity entity) {
+        Iterator<Map.Entry<MobEffect, MobEffectInstance>> iterator = granted.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<MobEffect, MobEffectInstance> entry = iterator.next();
+            MobEffect effect = entry.getKey();
+            if (pending.containsKey(effect)) continue;
+            MobEffectInstance active = entity.getEffect(effect);
+            if (active != null && active.getAmplifier() == entry.getValue().getAmplifier()) {
+                entity.removeEffect(effect);
+            }
+            iterator.remove();
+        }
+        granted.putAll(pending);
+        pending.clear();
+    }
+
+    /**
+     * @return game time at which some of granted effects should be refreshed
+     */
+    public long getRefreshTime() {
+        return refreshTime;
+    }
+
+    private static boolean isSameOutcome(MobEffectInstance active, MobEffectInstance instance, boolean exactAmplifier) {
+        int amplifier = active.getAmplifier();
+        if (amplifier != instance.getAmplifier()) {
+            // stronger effect from other source is kept unless exact amplifier is required
+            return !exactAmplifier && amplifier > instance.getAmplifier();
+        }
+        return active.isAmbient() == instance.isAmbient() && active.isVisible() == instance.isVisible() && active.showIcon() == instance.showIcon();
+    }
+}
@@ -15,13 +15,12 @@ import team.tnt.collectoralbum.common.ICardCategory;
 import team.tnt.collectoralbum.common.init.CardBoostConditionRegistry;
 import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
 import team.tnt.collectoralbum.common.item.CardRarity;
-import team.tnt.collectoralbum.common.item.ICard;
 import team.tnt.collectoralbum.util.JsonHelper;
 import team.tnt.collectoralbum.util.TextHelper;
 
-import java.util.*;
+import java.util.Objects;
 
-public class CardsCondition implements ICardBoostCondition {
+public class CardsCondition implements IThresholdCondition {
 
     private final ICardCategory category;
     private final CardRarity rarity;
@@ -42,21 +41,18 @@ public class CardsCondition implements ICardBoostCondition {
 
     @Override
     public boolean isValid(IBoostContext context) {
-        AlbumStats stats = context.get(ActiveBoostContext.STATS, AlbumStats.class);
-        Map<ICardCategory, List<ICard>> map = stats.getCardsByCategory();
-        List<ICard> cardList;
-        if (category == null) {
-            cardList = CardCategoryRegistry.getValues().stream()
-                    .flatMap(cat -> Optional.ofNullable(map.get(cat)).stream())
-                    .flatMap(Collection::stream)
-                    .toList();
-        } else {
-            cardList = Optional.ofNullable(map.get(category)).orElse(Collections.emptyList());
-        }
-        if (rarity != null) {
-            cardList = cardList.stream().filter(card -> card.getCardRarity() == rarity).toList();
-        }
-        return cardList.size() >= count;
+        AlbumStats stats = context.get(ActiveBoostContext.STATS_KEY);
+        return stats.count(category, rarity) >= count;
+    }
+
+    @Override
+    public int getStatsViewIndex() {
+        return AlbumStats.viewIndex(category, rarity);
+    }
+
+    @Override
+    public int getRequiredValue() {
+        return count;
     }
 
     @Override
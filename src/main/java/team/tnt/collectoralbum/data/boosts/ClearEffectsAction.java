@@ -27,7 +27,7 @@ public class ClearEffectsAction implements IAction {
 
     @Override
     public void apply(IBoostContext context) {
-        Player player = context.get(SimpleBoostContext.PLAYER, Player.class);
+        Player player = context.get(SimpleBoostContext.PLAYER_KEY);
         for (MobEffect effect : effects) {
             player.removeEffect(effect);
         }
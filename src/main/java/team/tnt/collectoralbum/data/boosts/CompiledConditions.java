@@ -0,0 +1,53 @@
+package team.tnt.collectoralbum.data.boosts;
+
+import team.tnt.collectoralbum.common.AlbumStats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CompiledConditions {
+
+    private final int[] viewIndices;
+    private final int[] requiredValues;
+    private final ICardBoostCondition[] interpreted;
+
+    private CompiledConditions(int[] viewIndices, int[] requiredValues, ICardBoostCondition[] interpreted) {
+        this.viewIndices = viewIndices;
+        this.requiredValues = requiredValues;
+        this.interpreted = interpreted;
+    }
+
+    public static CompiledConditions compile(ICardBoostCondition[] conditions) {
+        List<IThresholdCondition> thresholds = new ArrayList<>();
+        List<ICardBoostCondition> interpreted = new ArrayList<>();
+        for (ICardBoostCondition condition : conditions) {
+            if (condition instanceof IThresholdCondition thresholdCondition) {
+                thresholds.add(thresholdCondition);
+            } else {
+                interpreted.add(condition);
+            }
+        }
+        int[] viewIndices = new int[thresholds.size()];
+        int[] requiredValues = new int[thresholds.size()];
+        for (int i = 0; i < viewIndices.length; i++) {
+            IThresholdCondition condition = thresholds.get(i);
+            viewIndices[i] = condition.getStatsViewIndex();
+            requiredValues[i] = condition.getRequiredValue();
+        }
+        return new CompiledConditions(viewIndices, requiredValues, interpreted.toArray(ICardBoostCondition[]::new));
+    }
+
+    public boolean test(AlbumStats stats, IBoostContext context) {
+        for (int i = 0; i < viewIndices.length; i++) {
+            if (stats.getViewValue(viewIndices[i]) < requiredValues[i]) {
+                return false;
+            }
+        }
+        for (ICardBoostCondition condition : interpreted) {
+            if (!condition.isValid(context)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
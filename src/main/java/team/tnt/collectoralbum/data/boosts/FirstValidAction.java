@@ -8,6 +8,7 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.GsonHelper;
 import org.jetbrains.annotations.NotNull;
+import team.tnt.collectoralbum.common.AlbumStats;
 import team.tnt.collectoralbum.common.init.ActionTypeRegistry;
 import team.tnt.collectoralbum.util.JsonHelper;
 
@@ -30,8 +31,9 @@ public class FirstValidAction implements IAction {
 
     @Override
     public void apply(IBoostContext context) {
+        AlbumStats stats = context.get(ActiveBoostContext.STATS_KEY);
         for (Entry entry : entries) {
-            if (entry.accepts(context)) {
+            if (stats != null ? entry.compiled.test(stats, context) : entry.accepts(context)) {
                 entry.apply(context);
                 break;
             }
@@ -103,10 +105,12 @@ public class FirstValidAction implements IAction {
 
         private final ICardBoostCondition[] conditions;
         private final IAction action;
+        private final CompiledConditions compiled;
 
         public Entry(ICardBoostCondition[] conditions, IAction action) {
             this.conditions = conditions;
             this.action = action;
+            this.compiled = CompiledConditions.compile(conditions);
         }
 
         public boolean accepts(IBoostContext ctx) {
@@ -45,10 +45,15 @@ public class GiveEffectsAction implements IAction {
 
     @Override
     public void apply(IBoostContext context) {
-        Player player = context.get(SimpleBoostContext.PLAYER, Player.class);
+        Player player = context.get(SimpleBoostContext.PLAYER_KEY);
+        BoostEffectTracker tracker = context.get(SimpleBoostContext.EFFECT_TRACKER_KEY);
         for (IEffectFactory factory : effects) {
             MobEffectInstance instance = factory.makeEffect();
-            player.addEffect(instance);
+            if (tracker != null) {
+                tracker.grant(player, instance, false);
+            } else {
+                player.addEffect(instance);
+            }
         }
     }
 
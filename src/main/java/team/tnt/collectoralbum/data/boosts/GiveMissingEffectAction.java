@@ -30,9 +30,14 @@ public class GiveMissingEffectAction implements IAction {
 
     @Override
     public void apply(IBoostContext context) {
-        Player player = context.get(SimpleBoostContext.PLAYER, Player.class);
+        Player player = context.get(SimpleBoostContext.PLAYER_KEY);
+        BoostEffectTracker tracker = context.get(SimpleBoostContext.EFFECT_TRACKER_KEY);
         for (GiveEffectsAction.IEffectFactory factory : factories) {
             MobEffectInstance instance = factory.makeEffect();
+            if (tracker != null) {
+                tracker.grant(player, instance, true);
+                continue;
+            }
             MobEffectInstance old = player.getEffect(instance.getEffect());
             if (old == null || old.getAmplifier() != instance.getAmplifier()) {
                 player.removeEffect(instance.getEffect());
@@ -3,4 +3,11 @@ package team.tnt.collectoralbum.data.boosts;
 public interface IBoostContext {
 
     <T> T get(String paramName, Class<T> tClass);
+
+    /**
+     * Key based lookup used by built-in contexts, falls back to string keyed lookup for contexts which don't override it
+     */
+    default <T> T get(BoostContextKey<T> key) {
+        return get(key.getName(), key.getType());
+    }
 }
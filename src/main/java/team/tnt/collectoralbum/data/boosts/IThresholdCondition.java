@@ -0,0 +1,12 @@
+package team.tnt.collectoralbum.data.boosts;
+
+/**
+ * Condition which only compares single {@link team.tnt.collectoralbum.common.AlbumStats} view value against
+ * required minimum, allowing it to be evaluated without the interpreted {@link #isValid(IBoostContext)} call
+ */
+public interface IThresholdCondition extends ICardBoostCondition {
+
+    int getStatsViewIndex();
+
+    int getRequiredValue();
+}
@@ -12,7 +12,7 @@ import team.tnt.collectoralbum.common.AlbumStats;
 import team.tnt.collectoralbum.common.init.CardBoostConditionRegistry;
 import team.tnt.collectoralbum.util.JsonHelper;
 
-public class PointsCondition implements ICardBoostCondition {
+public class PointsCondition implements IThresholdCondition {
 
     private final int minPoints;
     private final Component[] description;
@@ -29,11 +29,21 @@ public class PointsCondition implements ICardBoostCondition {
 
     @Override
     public boolean isValid(IBoostContext context) {
-        AlbumStats stats = context.get(ActiveBoostContext.STATS, AlbumStats.class);
+        AlbumStats stats = context.get(ActiveBoostContext.STATS_KEY);
         int points = stats.getPoints();
         return points >= minPoints;
     }
 
+    @Override
+    public int getStatsViewIndex() {
+        return AlbumStats.pointsViewIndex();
+    }
+
+    @Override
+    public int getRequiredValue() {
+        return minPoints;
+    }
+
     @Override
     public Component[] getDescription() {
         return description;
@@ -2,29 +2,70 @@ package team.tnt.collectoralbum.data.boosts;
 
 import net.minecraft.world.entity.player.Player;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 public class SimpleBoostContext implements IBoostContext {
 
     public static final String PLAYER = "player";
-    private final Map<String, Object> paramMap = new HashMap<>();
+    public static final String EFFECT_TRACKER = "effectTracker";
+    public static final BoostContextKey<Player> PLAYER_KEY = BoostContextKey.create(PLAYER, Player.class);
+    public static final BoostContextKey<BoostEffectTracker> EFFECT_TRACKER_KEY = BoostContextKey.create(EFFECT_TRACKER, BoostEffectTracker.class);
+    private Object[] values = new Object[BoostContextKey.count()];
+
+    /**
+     * Creates empty context, which can be reused for multiple evaluations by {@link #clear()}ing it in between
+     */
+    public SimpleBoostContext() {
+    }
 
     public SimpleBoostContext(Player player) {
-        set(PLAYER, player);
+        set(PLAYER_KEY, player);
+    }
+
+    public SimpleBoostContext(Player player, BoostEffectTracker effectTracker) {
+        this(player);
+        set(EFFECT_TRACKER_KEY, effectTracker);
     }
 
     @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(BoostContextKey<T> key) {
+        int index = key.getIndex();
+        return index < values.length ? (T) values[index] : null;
+    }
+
     @Override
     public <T> T get(String paramName, Class<T> tClass) {
-        Object obj = paramMap.get(paramName);
-        if (obj != null && tClass.isAssignableFrom(obj.getClass())) {
-            return (T) obj;
+        BoostContextKey<?> key = BoostContextKey.byName(paramName);
+        if (key == null) {
+            return null;
         }
-        return null;
+        Object obj = get(key);
+        return tClass.isInstance(obj) ? tClass.cast(obj) : null;
+    }
+
+    public <T> SimpleBoostContext set(BoostContextKey<T> key, T value) {
+        setValue(key, value);
+        return this;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
     }
 
     protected void set(String paramName, Object obj) {
-        this.paramMap.put(paramName, obj);
+        BoostContextKey<?> key = BoostContextKey.getOrCreate(paramName);
+        if (obj != null && !key.getType().isInstance(obj)) {
+            throw new IllegalArgumentException("Invalid value type for " + key + ": " + obj.getClass());
+        }
+        setValue(key, obj);
+    }
+
+    private void setValue(BoostContextKey<?> key, Object value) {
+        int index = key.getIndex();
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, Math.max(index + 1, BoostContextKey.count()));
+        }
+        values[index] = value;
     }
 }
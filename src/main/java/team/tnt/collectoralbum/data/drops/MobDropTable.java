@@ -0,0 +1,127 @@
+package team.tnt.collectoralbum.data.drops;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.Level;
+import team.tnt.collectoralbum.util.JsonHelper;
+import team.tnt.collectoralbum.util.math.WeightedRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Item dropped on death of matching entities. Example definition:
+ * <pre>{@code
+ * {
+ *   "entities": ["minecraft:zombie", "#minecraft:skeletons"],
+ *   "dimensions": ["minecraft:overworld"],
+ *   "priority": 0,
+ *   "drops": [
+ *     { "item": "minecraft:air", "weight": 5700 },
+ *     { "item": "collectorsalbum:common_card_package", "weight": 480 }
+ *   ]
+ * }
+ * }</pre>
+ * Dimensions can be omitted to match all dimensions, {@code minecraft:air} represents no drop.
+ */
+public class MobDropTable {
+
+    private final ResourceLocation identifier;
+    private final List<EntityType<?>> entityTypes;
+    private final List<TagKey<EntityType<?>>> entityTags;
+    private final List<ResourceKey<Level>> dimensions;
+    private final int priority;
+    private final WeightedRandom<Entry> drops;
+
+    private MobDropTable(ResourceLocation identifier, List<EntityType<?>> entityTypes, List<TagKey<EntityType<?>>> entityTags, List<ResourceKey<Level>> dimensions, int priority, Entry[] drops) {
+        this.identifier = identifier;
+        this.entityTypes = entityTypes;
+        this.entityTags = entityTags;
+        this.dimensions = dimensions;
+        this.priority = priority;
+        this.drops = WeightedRandom.create(drops);
+    }
+
+    public Item sample(RandomGenerator random) {
+        return drops.get(random).item();
+    }
+
+    public ResourceLocation getIdentifier() {
+        return identifier;
+    }
+
+    public List<EntityType<?>> getEntityTypes() {
+        return entityTypes;
+    }
+
+    public List<TagKey<EntityType<?>>> getEntityTags() {
+        return entityTags;
+    }
+
+    public List<ResourceKey<Level>> getDimensions() {
+        return dimensions;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public static MobDropTable fromJson(ResourceLocation identifier, JsonObject data) throws JsonParseException {
+        List<EntityType<?>> entityTypes = new ArrayList<>();
+        List<TagKey<EntityType<?>>> entityTags = new ArrayList<>();
+        for (JsonElement element : GsonHelper.getAsJsonArray(data, "entities")) {
+            String id = element.getAsString();
+            if (id.startsWith("#")) {
+                entityTags.add(TagKey.create(Registry.ENTITY_TYPE_REGISTRY, new ResourceLocation(id.substring(1))));
+            } else {
+                ResourceLocation typeId = new ResourceLocation(id);
+                EntityType<?> type = Registry.ENTITY_TYPE.getOptional(typeId).orElseThrow(() -> new JsonSyntaxException("Unknown entity type: " + typeId));
+                entityTypes.add(type);
+            }
+        }
+        List<ResourceKey<Level>> dimensions = new ArrayList<>();
+        for (JsonElement element : GsonHelper.getAsJsonArray(data, "dimensions", new JsonArray())) {
+            dimensions.add(ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(element.getAsString())));
+        }
+        int priority = GsonHelper.getAsInt(data, "priority", 0);
+        Entry[] drops = JsonHelper.resolveArray(GsonHelper.getAsJsonArray(data, "drops"), Entry[]::new, Entry::fromJson);
+        if (drops.length == 0) {
+            throw new JsonSyntaxException("Mob drop table must contain atleast one drop");
+        }
+        try {
+            return new MobDropTable(identifier, entityTypes, entityTags, dimensions, priority, drops);
+        } catch (IllegalArgumentException e) {
+            throw new JsonSyntaxException(e.getMessage());
+        }
+    }
+
+    private record Entry(Item item, int weight) implements WeightedRandom.IWeighted {
+
+        @Override
+        public int getWeight() {
+            return weight;
+        }
+
+        static Entry fromJson(JsonElement element) throws JsonParseException {
+            JsonObject data = JsonHelper.asObject(element);
+            ResourceLocation id = new ResourceLocation(GsonHelper.getAsString(data, "item"));
+            Item item = Registry.ITEM.getOptional(id).orElseThrow(() -> new JsonSyntaxException("Unknown item: " + id));
+            int weight = GsonHelper.getAsInt(data, "weight", 1);
+            if (weight < 0) {
+                throw new JsonSyntaxException("Drop weight cannot be negative. Got " + weight);
+            }
+            return new Entry(item, weight);
+        }
+    }
+}
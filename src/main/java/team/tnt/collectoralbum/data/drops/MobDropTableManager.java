@@ -0,0 +1,129 @@
+package team.tnt.collectoralbum.data.drops;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.Nullable;
+import team.tnt.collectoralbum.CollectorsAlbum;
+import team.tnt.collectoralbum.data.packs.TagSnapshotCache;
+import team.tnt.collectoralbum.util.JsonHelper;
+
+import java.util.*;
+
+/**
+ * Loads mob drop tables and resolves them into per entity type lookup. Entity tags are bound only after
+ * all reload listeners have finished, so the lookup is resolved on first use after tags change.
+ */
+public class MobDropTableManager extends SimpleJsonResourceReloadListener implements IdentifiableResourceReloadListener {
+
+    private static final Logger LOGGER = LogManager.getLogger(MobDropTableManager.class);
+    private static final ResourceLocation FABRIC_ID = new ResourceLocation(CollectorsAlbum.MODID, "mob_drop_table_manager");
+    private static final Gson GSON = new Gson();
+
+    private volatile List<MobDropTable> tables = Collections.emptyList();
+    private volatile Map<EntityType<?>, ResolvedTables> resolved;
+    private int resolvedGeneration;
+
+    public MobDropTableManager() {
+        super(GSON, "mob_drops");
+    }
+
+    /**
+     * @return drop table with highest priority for given entity type and dimension or {@code null} when there is none
+     */
+    @Nullable
+    public MobDropTable getTable(EntityType<?> type, ResourceKey<Level> dimension) {
+        ResolvedTables resolvedTables = getResolved().get(type);
+        return resolvedTables != null ? resolvedTables.get(dimension) : null;
+    }
+
+    @Override
+    public ResourceLocation getFabricId() {
+        return FABRIC_ID;
+    }
+
+    @Override
+    protected void apply(Map<ResourceLocation, JsonElement> object, ResourceManager resourceManager, ProfilerFiller profiler) {
+        LOGGER.info("Loading mob drop tables");
+        List<MobDropTable> loaded = new ArrayList<>();
+        for (Map.Entry<ResourceLocation, JsonElement> entry : object.entrySet()) {
+            try {
+                loaded.add(MobDropTable.fromJson(entry.getKey(), JsonHelper.asObject(entry.getValue())));
+            } catch (IllegalArgumentException | JsonParseException e) {
+                LOGGER.error("Error loading mob drop table {}, error {}", entry.getKey(), e);
+            }
+        }
+        // ascending priority, so tables with higher priority override the others during resolution
+        loaded.sort(Comparator.comparingInt(MobDropTable::getPriority).thenComparing(MobDropTable::getIdentifier));
+        this.tables = loaded;
+        this.resolved = null;
+        LOGGER.info("Loaded {} mob drop tables", loaded.size());
+    }
+
+    private Map<EntityType<?>, ResolvedTables> getResolved() {
+        Map<EntityType<?>, ResolvedTables> map = resolved;
+        int generation = TagSnapshotCache.getGeneration();
+        if (map == null || resolvedGeneration != generation) {
+            map = resolve(tables);
+            resolvedGeneration = generation;
+            resolved = map;
+        }
+        return map;
+    }
+
+    private static Map<EntityType<?>, ResolvedTables> resolve(List<MobDropTable> tables) {
+        Map<EntityType<?>, ResolvedTables> map = new IdentityHashMap<>();
+        for (MobDropTable table : tables) {
+            Set<EntityType<?>> types = Collections.newSetFromMap(new IdentityHashMap<>());
+            types.addAll(table.getEntityTypes());
+            for (TagKey<EntityType<?>> tag : table.getEntityTags()) {
+                for (Holder<EntityType<?>> holder : Registry.ENTITY_TYPE.getTagOrEmpty(tag)) {
+                    types.add(holder.value());
+                }
+            }
+            for (EntityType<?> type : types) {
+                map.computeIfAbsent(type, k -> new ResolvedTables()).add(table);
+            }
+        }
+        return map;
+    }
+
+    private static final class ResolvedTables {
+
+        private MobDropTable any;
+        private Map<ResourceKey<Level>, MobDropTable> byDimension = Collections.emptyMap();
+
+        void add(MobDropTable table) {
+            if (table.getDimensions().isEmpty()) {
+                // tables are added by ascending priority, dimension specific tables added before are overridden
+                any = table;
+                byDimension = Collections.emptyMap();
+                return;
+            }
+            if (byDimension.isEmpty()) {
+                byDimension = new HashMap<>();
+            }
+            for (ResourceKey<Level> dimension : table.getDimensions()) {
+                byDimension.put(dimension, table);
+            }
+        }
+
+        MobDropTable get(ResourceKey<Level> dimension) {
+            MobDropTable table = byDimension.isEmpty() ? null : byDimension.get(dimension);
+            return table != null ? table : any;
+        }
+    }
+}
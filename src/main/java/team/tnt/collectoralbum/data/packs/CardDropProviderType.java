@@ -9,15 +9,34 @@ import net.minecraft.util.GsonHelper;
 import team.tnt.collectoralbum.common.init.CardDropProviderRegistry;
 import team.tnt.collectoralbum.util.JsonHelper;
 
+import java.util.random.RandomGenerator;
+
 public record CardDropProviderType<P extends ICardDropProvider>(ResourceLocation identifier,
                                                                 ICardDropSerializer<P> serializer) {
 
+    // default provideDrops overloads delegate to each other, so at least one must be overridden
+    private static final ClassValue<Boolean> IMPLEMENTS_DROPS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("provideDrops", RandomGenerator.class).getDeclaringClass() != ICardDropProvider.class
+                        || type.getMethod("provideDrops").getDeclaringClass() != ICardDropProvider.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     public static <P extends ICardDropProvider> P fromJson(JsonElement entry) throws JsonParseException {
         JsonObject object = JsonHelper.asObject(entry);
         ResourceLocation id = new ResourceLocation(GsonHelper.getAsString(object, "type"));
         CardDropProviderType<P> type = CardDropProviderRegistry.findInRegistry(id);
         if (type == null) throw new JsonSyntaxException("Unknown card provider: " + id);
         ICardDropSerializer<P> serializer = type.serializer();
-        return serializer.fromJson(object);
+        P provider = serializer.fromJson(object);
+        if (!IMPLEMENTS_DROPS.get(provider.getClass())) {
+            throw new JsonSyntaxException("Card provider " + provider.getClass().getName() + " of type " + id + " doesn't override any provideDrops method");
+        }
+        return provider;
     }
 }
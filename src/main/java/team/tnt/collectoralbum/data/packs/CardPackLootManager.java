@@ -23,7 +23,7 @@ public class CardPackLootManager extends SimpleJsonResourceReloadListener implem
     private static final Logger LOGGER = LogManager.getLogger(CardPackLootManager.class);
 
     private static final Gson GSON = new GsonBuilder().create();
-    private final Map<ResourceLocation, ICardDropProvider> providerMap = new HashMap<>();
+    private final Map<ResourceLocation, CompiledDropProvider> providerMap = new HashMap<>();
 
     public CardPackLootManager() {
         super(GSON, "card_packs");
@@ -47,7 +47,7 @@ public class CardPackLootManager extends SimpleJsonResourceReloadListener implem
                 ResourceLocation path = entry.getKey();
                 JsonElement data = entry.getValue();
                 ICardDropProvider provider = CardDropProviderType.fromJson(data);
-                providerMap.put(path, provider);
+                providerMap.put(path, new CompiledDropProvider(path, provider));
             } catch (JsonParseException e) {
                 LOGGER.error("Error loading card pack provider with id {}, error {}", entry.getKey(), e);
             }
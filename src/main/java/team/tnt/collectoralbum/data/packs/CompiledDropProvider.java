@@ -0,0 +1,98 @@
+package team.tnt.collectoralbum.data.packs;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Card pack drop provider backed by flat sampling plan. Plan is compiled on first use, since item tags
+ * are bound only after all data reload listeners have finished, and recompiled whenever tags change.
+ */
+public class CompiledDropProvider implements ICardDropProvider {
+
+    private static final Logger LOGGER = LogManager.getLogger(CompiledDropProvider.class);
+
+    private final ResourceLocation identifier;
+    private final ICardDropProvider tree;
+    // plan is published together with tag generation it was compiled for, lock is taken only when recompiling
+    private volatile CompiledPlan compiled;
+
+    public CompiledDropProvider(ResourceLocation identifier, ICardDropProvider tree) {
+        this.identifier = identifier;
+        this.tree = tree;
+    }
+
+    @Override
+    public List<ItemStack> provideDrops(RandomGenerator random) {
+        List<ItemStack> drops = new ArrayList<>();
+        getPlan().sample(random, new StackOutput(drops));
+        return drops;
+    }
+
+    @Override
+    public <T> DropPlan<T> compile(IItemResolver<T> resolver) {
+        return tree.compile(resolver);
+    }
+
+    /**
+     * @return plan of registry items, compiled for current item tags
+     */
+    public DropPlan<Item> getPlan() {
+        CompiledPlan current = compiled;
+        if (current == null || current.generation() != TagSnapshotCache.getGeneration()) {
+            current = recompile();
+        }
+        return current.plan();
+    }
+
+    public ResourceLocation getIdentifier() {
+        return identifier;
+    }
+
+    public ICardDropProvider getTree() {
+        return tree;
+    }
+
+    private synchronized CompiledPlan recompile() {
+        int generation = TagSnapshotCache.getGeneration();
+        CompiledPlan current = compiled;
+        if (current != null && current.generation() == generation) {
+            return current;
+        }
+        DropPlan<Item> plan;
+        try {
+            plan = tree.compile(RegistryItemResolver.INSTANCE);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unable to compile card pack drops {}, using provider tree instead: {}", identifier, e.getMessage());
+            plan = new DropPlan.Tree<>(tree);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Compiled card pack drops {}\n{}", identifier, plan.dump());
+        }
+        current = new CompiledPlan(plan, generation);
+        compiled = current;
+        return current;
+    }
+
+    private record CompiledPlan(DropPlan<Item> plan, int generation) {
+    }
+
+    private record StackOutput(List<ItemStack> drops) implements DropPlan.Output<Item> {
+
+        @Override
+        public void accept(Item item) {
+            drops.add(new ItemStack(item));
+        }
+
+        @Override
+        public void acceptAll(List<ItemStack> drops) {
+            this.drops.addAll(drops);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package team.tnt.collectoralbum.data.packs;
+
+import net.minecraft.world.item.ItemStack;
+import team.tnt.collectoralbum.util.math.AliasTable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Flat sampling plan compiled from card drop provider tree. Nodes which cannot be flattened
+ * keep their provider and are evaluated the same way as before.
+ *
+ * @param <T> type of items resolved by {@link IItemResolver} the plan was compiled with
+ */
+public interface DropPlan<T> {
+
+    void sample(RandomGenerator random, Output<T> out);
+
+    void dump(StringBuilder builder, int depth);
+
+    default String dump() {
+        StringBuilder builder = new StringBuilder();
+        dump(builder, 0);
+        return builder.toString();
+    }
+
+    private static StringBuilder indent(StringBuilder builder, int depth) {
+        return builder.append("  ".repeat(depth));
+    }
+
+    /**
+     * Receives sampled drops
+     */
+    interface Output<T> {
+
+        void accept(T item);
+
+        /**
+         * Receives drops of providers which could not be compiled
+         */
+        void acceptAll(List<ItemStack> drops);
+    }
+
+    /**
+     * Single item drop chosen by alias table
+     */
+    record Pick<T>(List<T> items, double[] probabilities, AliasTable table) implements DropPlan<T> {
+
+        public static <T> Pick<T> single(T item) {
+            return of(List.of(item), new double[] { 1.0 });
+        }
+
+        public static <T> Pick<T> uniform(List<T> items) {
+            double[] probabilities = new double[items.size()];
+            for (int i = 0; i < probabilities.length; i++) {
+                probabilities[i] = 1.0 / probabilities.length;
+            }
+            return of(items, probabilities);
+        }
+
+        /**
+         * Merges picks into single pick, same items from different picks are combined
+         */
+        public static <T> Pick<T> mixture(List<Pick<T>> picks, int[] weights) {
+            double total = 0.0;
+            for (int weight : weights) {
+                total += weight;
+            }
+            Map<T, Double> merged = new LinkedHashMap<>();
+            for (int i = 0; i < picks.size(); i++) {
+                if (weights[i] <= 0) continue;
+                double branch = weights[i] / total;
+                Pick<T> pick = picks.get(i);
+                for (int j = 0; j < pick.items.size(); j++) {
+                    merged.merge(pick.items.get(j), branch * pick.probabilities[j], Double::sum);
+                }
+            }
+            List<T> items = new ArrayList<>(merged.keySet());
+            double[] probabilities = merged.values().stream().mapToDouble(Double::doubleValue).toArray();
+            return of(items, probabilities);
+        }
+
+        private static <T> Pick<T> of(List<T> items, double[] probabilities) {
+            return new Pick<>(items, probabilities, items.size() > 1 ? AliasTable.create(probabilities) : null);
+        }
+
+        @Override
+        public void sample(RandomGenerator random, Output<T> out) {
+            out.accept(table != null ? items.get(table.sample(random)) : items.get(0));
+        }
+
+        @Override
+        public void dump(StringBuilder builder, int depth) {
+            indent(builder, depth).append("pick ").append(items.size()).append(" items\n");
+            for (int i = 0; i < items.size(); i++) {
+                indent(builder, depth + 1).append(items.get(i)).append(String.format(" %.4f%%\n", probabilities[i] * 100.0));
+            }
+        }
+    }
+
+    /**
+     * Weighted choice between plans which cannot be merged into single pick
+     */
+    record Choice<T>(List<DropPlan<T>> plans, AliasTable table) implements DropPlan<T> {
+
+        public static <T> Choice<T> of(List<DropPlan<T>> plans, int[] weights) {
+            return new Choice<>(plans, AliasTable.create(weights));
+        }
+
+        @Override
+        public void sample(RandomGenerator random, Output<T> out) {
+            plans.get(table.sample(random)).sample(random, out);
+        }
+
+        @Override
+        public void dump(StringBuilder builder, int depth) {
+            indent(builder, depth).append("choice\n");
+            for (DropPlan<T> plan : plans) {
+                plan.dump(builder, depth + 1);
+            }
+        }
+    }
+
+    record Repeat<T>(int minRuns, int maxRuns, DropPlan<T> plan) implements DropPlan<T> {
+
+        @Override
+        public void sample(RandomGenerator random, Output<T> out) {
+            int count = minRuns == maxRuns ? minRuns : random.nextInt(minRuns, maxRuns + 1);
+            for (int i = 0; i < count; i++) {
+                plan.sample(random, out);
+            }
+        }
+
+        @Override
+        public void dump(StringBuilder builder, int depth) {
+            indent(builder, depth).append("repeat ").append(minRuns).append('-').append(maxRuns).append('\n');
+            plan.dump(builder, depth + 1);
+        }
+    }
+
+    record All<T>(List<DropPlan<T>> plans) implements DropPlan<T> {
+
+        @Override
+        public void sample(RandomGenerator random, Output<T> out) {
+            for (DropPlan<T> plan : plans) {
+                plan.sample(random, out);
+            }
+        }
+
+        @Override
+        public void dump(StringBuilder builder, int depth) {
+            indent(builder, depth).append("all\n");
+            for (DropPlan<T> plan : plans) {
+                plan.dump(builder, depth + 1);
+            }
+        }
+    }
+
+    /**
+     * Provider which couldn't be flattened, drops are provided by walking the original tree
+     */
+    record Tree<T>(ICardDropProvider provider) implements DropPlan<T> {
+
+        @Override
+        public void sample(RandomGenerator random, Output<T> out) {
+            out.acceptAll(provider.provideDrops(random));
+        }
+
+        @Override
+        public void dump(StringBuilder builder, int depth) {
+            indent(builder, depth).append("tree ").append(provider.getClass().getSimpleName()).append('\n');
+        }
+    }
+}
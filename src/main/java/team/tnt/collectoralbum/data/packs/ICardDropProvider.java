@@ -3,8 +3,28 @@ package team.tnt.collectoralbum.data.packs;
 import net.minecraft.world.item.ItemStack;
 
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public interface ICardDropProvider {
 
-    List<ItemStack> provideDrops();
+    /**
+     * Implementations must override at least one of the {@code provideDrops} methods, providers which override
+     * neither are rejected when parsed by {@link CardDropProviderType}. Providers which only implement
+     * {@link #provideDrops()} keep working, but ignore the supplied generator
+     */
+    default List<ItemStack> provideDrops(RandomGenerator random) {
+        return provideDrops();
+    }
+
+    default List<ItemStack> provideDrops() {
+        return provideDrops(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Compiles this provider into flat sampling plan, items and tags are resolved by given resolver
+     */
+    default <T> DropPlan<T> compile(IItemResolver<T> resolver) {
+        return new DropPlan.Tree<>(this);
+    }
 }
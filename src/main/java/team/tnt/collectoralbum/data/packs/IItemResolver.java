@@ -0,0 +1,25 @@
+package team.tnt.collectoralbum.data.packs;
+
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.List;
+
+/**
+ * Resolves item and tag ids referenced by card drop providers when they are compiled into {@link DropPlan}.
+ * Game resolves ids against item registry, tools may resolve them against their own data.
+ *
+ * @param <T> type of resolved items
+ */
+public interface IItemResolver<T> {
+
+    /**
+     * @throws IllegalArgumentException when item does not exist
+     */
+    T getItem(ResourceLocation id);
+
+    /**
+     * @return distinct items in tag, empty for empty or undefined tags
+     * @throws IllegalArgumentException when tag cannot be resolved at all
+     */
+    List<T> getTagItems(ResourceLocation tag);
+}
@@ -4,42 +4,64 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
-import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
 import team.tnt.collectoralbum.util.JsonHelper;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 public class ItemCardProvider implements ICardDropProvider {
 
-    private final Item item;
+    private final ResourceLocation item;
+    // resolved on first drop, item existence is checked when parsed
+    private Item resolved;
 
-    private ItemCardProvider(Item item) {
+    private ItemCardProvider(ResourceLocation item) {
         this.item = item;
     }
 
     @Override
-    public List<ItemStack> provideDrops() {
-        ItemStack itemStack = new ItemStack(item);
-        return Collections.singletonList(itemStack);
+    public List<ItemStack> provideDrops(RandomGenerator random) {
+        if (resolved == null) {
+            resolved = RegistryItemResolver.INSTANCE.getItem(item);
+        }
+        return Collections.singletonList(new ItemStack(resolved));
+    }
+
+    @Override
+    public <T> DropPlan<T> compile(IItemResolver<T> resolver) {
+        return DropPlan.Pick.single(resolver.getItem(item));
     }
 
     public static class Serializer implements ICardDropSerializer<ItemCardProvider> {
 
+        private final IItemResolver<?> resolver;
+
+        public Serializer() {
+            this(RegistryItemResolver.INSTANCE);
+        }
+
+        /**
+         * @param resolver used to check that item exists, game uses item registry
+         */
+        public Serializer(IItemResolver<?> resolver) {
+            this.resolver = resolver;
+        }
+
         @Override
         public ItemCardProvider fromJson(JsonElement data) throws JsonParseException {
             JsonObject object = JsonHelper.asObject(data);
             ResourceLocation identifier = new ResourceLocation(GsonHelper.getAsString(object, "item"));
-            Item item = Registry.ITEM.get(identifier);
-            if (item == Items.AIR) {
+            try {
+                resolver.getItem(identifier);
+            } catch (IllegalArgumentException e) {
                 throw new JsonSyntaxException("Unknown item: " + identifier);
             }
-            return new ItemCardProvider(item);
+            return new ItemCardProvider(identifier);
         }
     }
 }
@@ -10,6 +10,7 @@ import team.tnt.collectoralbum.util.JsonHelper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 public class MultiDropProvider implements ICardDropProvider {
 
@@ -20,14 +21,23 @@ public class MultiDropProvider implements ICardDropProvider {
     }
 
     @Override
-    public List<ItemStack> provideDrops() {
+    public List<ItemStack> provideDrops(RandomGenerator random) {
         List<ItemStack> list = new ArrayList<>();
         for (ICardDropProvider provider : nestedProviders) {
-            list.addAll(provider.provideDrops());
+            list.addAll(provider.provideDrops(random));
         }
         return list;
     }
 
+    @Override
+    public <T> DropPlan<T> compile(IItemResolver<T> resolver) {
+        List<DropPlan<T>> plans = new ArrayList<>(nestedProviders.length);
+        for (ICardDropProvider provider : nestedProviders) {
+            plans.add(provider.compile(resolver));
+        }
+        return new DropPlan.All<>(plans);
+    }
+
     public static final class Serializer implements ICardDropSerializer<MultiDropProvider> {
 
         @Override
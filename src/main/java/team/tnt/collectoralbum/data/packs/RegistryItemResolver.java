@@ -0,0 +1,30 @@
+package team.tnt.collectoralbum.data.packs;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resolves ids against item registry, tags are read from {@link TagSnapshotCache}
+ */
+public final class RegistryItemResolver implements IItemResolver<Item> {
+
+    public static final RegistryItemResolver INSTANCE = new RegistryItemResolver();
+
+    private RegistryItemResolver() {
+    }
+
+    @Override
+    public Item getItem(ResourceLocation id) {
+        return Registry.ITEM.getOptional(id).orElseThrow(() -> new IllegalArgumentException("Unknown item: " + id));
+    }
+
+    @Override
+    public List<Item> getTagItems(ResourceLocation tag) {
+        return Arrays.asList(TagSnapshotCache.getItems(TagKey.create(Registry.ITEM_REGISTRY, tag)));
+    }
+}
@@ -10,7 +10,7 @@ import team.tnt.collectoralbum.util.JsonHelper;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class RepeatedDropProvider implements ICardDropProvider {
 
@@ -25,16 +25,20 @@ public class RepeatedDropProvider implements ICardDropProvider {
     }
 
     @Override
-    public List<ItemStack> provideDrops() {
-        Random random = new Random();
-        int count = minRuns + random.nextInt(maxRuns - minRuns + 1);
+    public List<ItemStack> provideDrops(RandomGenerator random) {
+        int count = minRuns == maxRuns ? minRuns : random.nextInt(minRuns, maxRuns + 1);
         List<ItemStack> items = new ArrayList<>();
         for (int i = 0; i < count; i++) {
-            items.addAll(provider.provideDrops());
+            items.addAll(provider.provideDrops(random));
         }
         return items;
     }
 
+    @Override
+    public <T> DropPlan<T> compile(IItemResolver<T> resolver) {
+        return new DropPlan.Repeat<>(minRuns, maxRuns, provider.compile(resolver));
+    }
+
     public static final class Serializer implements ICardDropSerializer<RepeatedDropProvider> {
 
         @Override
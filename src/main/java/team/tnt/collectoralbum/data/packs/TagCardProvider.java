@@ -3,41 +3,41 @@ package team.tnt.collectoralbum.data.packs;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import net.minecraft.core.Holder;
-import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.tags.TagKey;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import team.tnt.collectoralbum.CollectorsAlbum;
 import team.tnt.collectoralbum.util.JsonHelper;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class TagCardProvider implements ICardDropProvider {
 
-    private final TagKey<Item> tag;
+    private final ResourceLocation tag;
 
-    private TagCardProvider(TagKey<Item> tag) {
+    private TagCardProvider(ResourceLocation tag) {
         this.tag = tag;
     }
 
     @Override
-    public List<ItemStack> provideDrops() {
-        Random random = new Random();
-        List<Holder<Item>> holders = new ArrayList<>();
-        Registry.ITEM.getTagOrEmpty(tag).forEach(holders::add);
-        if (holders.isEmpty()) {
-            CollectorsAlbum.LOGGER.error("Attempted to provide items from empty or undefined tag {}", tag.location());
+    public List<ItemStack> provideDrops(RandomGenerator random) {
+        List<Item> items = RegistryItemResolver.INSTANCE.getTagItems(tag);
+        if (items.isEmpty()) {
+            CollectorsAlbum.LOGGER.error("Attempted to provide items from empty or undefined tag {}", tag);
             return Collections.emptyList();
         }
-        Holder<Item> holderRef = holders.get(random.nextInt(holders.size()));
-        ItemStack itemStack = new ItemStack(holderRef);
-        return Collections.singletonList(itemStack);
+        Item item = items.get(random.nextInt(items.size()));
+        return Collections.singletonList(new ItemStack(item));
+    }
+
+    @Override
+    public <T> DropPlan<T> compile(IItemResolver<T> resolver) {
+        List<T> items = resolver.getTagItems(tag);
+        // empty tags are left to the tree, which reports them
+        return items.isEmpty() ? new DropPlan.Tree<>(this) : DropPlan.Pick.uniform(items);
     }
 
     public static class Serializer implements ICardDropSerializer<TagCardProvider> {
@@ -46,8 +46,7 @@ public class TagCardProvider implements ICardDropProvider {
         public TagCardProvider fromJson(JsonElement data) throws JsonParseException {
             JsonObject object = JsonHelper.asObject(data);
             ResourceLocation id = new ResourceLocation(GsonHelper.getAsString(object, "tag"));
-            TagKey<Item> tagKey = TagKey.create(Registry.ITEM_REGISTRY, id);
-            return new TagCardProvider(tagKey);
+            return new TagCardProvider(id);
         }
     }
 }
@@ -0,0 +1,55 @@
+package team.tnt.collectoralbum.data.packs;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.packs.resources.CloseableResourceManager;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolved item tag contents shared by all card providers. Snapshots are created on first use
+ * and dropped whenever server tags are (re)bound.
+ */
+public final class TagSnapshotCache {
+
+    private static final Item[] EMPTY = new Item[0];
+    private static final Map<TagKey<Item>, Item[]> SNAPSHOTS = new ConcurrentHashMap<>();
+    private static volatile int generation;
+
+    private TagSnapshotCache() {
+    }
+
+    public static Item[] getItems(TagKey<Item> tag) {
+        return SNAPSHOTS.computeIfAbsent(tag, TagSnapshotCache::resolve);
+    }
+
+    /**
+     * @return counter which changes every time snapshots are invalidated, used by data compiled from tags
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    public static void invalidate() {
+        SNAPSHOTS.clear();
+        ++generation;
+    }
+
+    public static void onServerStarting(MinecraftServer server) {
+        invalidate();
+    }
+
+    public static void onDataPackReloaded(MinecraftServer server, CloseableResourceManager resourceManager, boolean success) {
+        invalidate();
+    }
+
+    private static Item[] resolve(TagKey<Item> tag) {
+        return Registry.ITEM.getTag(tag)
+                .map(set -> set.stream().map(Holder::value).toArray(Item[]::new))
+                .orElse(EMPTY);
+    }
+}
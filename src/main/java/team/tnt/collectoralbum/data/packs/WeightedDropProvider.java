@@ -9,21 +9,42 @@ import net.minecraft.world.item.ItemStack;
 import team.tnt.collectoralbum.util.JsonHelper;
 import team.tnt.collectoralbum.util.math.WeightedRandom;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 public class WeightedDropProvider implements ICardDropProvider {
 
+    private final Entry[] entries;
     private final WeightedRandom<Entry> randomProvider;
 
     private WeightedDropProvider(Entry[] entries) {
+        this.entries = entries;
         this.randomProvider = WeightedRandom.create(entries);
     }
 
     @Override
-    public List<ItemStack> provideDrops() {
-        Entry providerEntry = randomProvider.get();
+    public List<ItemStack> provideDrops(RandomGenerator random) {
+        Entry providerEntry = randomProvider.get(random);
         ICardDropProvider provider = providerEntry.provider();
-        return provider.provideDrops();
+        return provider.provideDrops(random);
+    }
+
+    @Override
+    public <T> DropPlan<T> compile(IItemResolver<T> resolver) {
+        List<DropPlan<T>> plans = new ArrayList<>(entries.length);
+        List<DropPlan.Pick<T>> picks = new ArrayList<>(entries.length);
+        int[] weights = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            DropPlan<T> plan = entries[i].provider().compile(resolver);
+            plans.add(plan);
+            if (plan instanceof DropPlan.Pick<T> pick) {
+                picks.add(pick);
+            }
+            weights[i] = entries[i].value();
+        }
+        // only weighted choice between single item drops can be merged into one table
+        return picks.size() == plans.size() ? DropPlan.Pick.mixture(picks, weights) : DropPlan.Choice.of(plans, weights);
     }
 
     private record Entry(int value, ICardDropProvider provider) implements WeightedRandom.IWeighted {
@@ -9,21 +9,31 @@ import net.minecraft.world.level.Level;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import team.tnt.collectoralbum.CollectorsAlbum;
+import team.tnt.collectoralbum.common.AlbumSlotCache;
+import team.tnt.collectoralbum.common.IAlbumHolder;
 import team.tnt.collectoralbum.common.item.IDeathPersistableItem;
 
 @Mixin(Player.class)
-public abstract class PlayerMixin extends LivingEntity {
+public abstract class PlayerMixin extends LivingEntity implements IAlbumHolder {
 
     @Shadow @Final private Inventory inventory;
+    @Unique
+    private final AlbumSlotCache collectorsalbum$albumSlotCache = new AlbumSlotCache();
 
     public PlayerMixin(EntityType<? extends LivingEntity> entityType, Level level) {
         super(entityType, level);
     }
 
+    @Override
+    public AlbumSlotCache collectorsalbum$getAlbumSlotCache() {
+        return collectorsalbum$albumSlotCache;
+    }
+
     @Inject(
             method = "dropEquipment",
             at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/player/Player;destroyVanishingCursedItems()V", shift = At.Shift.AFTER),
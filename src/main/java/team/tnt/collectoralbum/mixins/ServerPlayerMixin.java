@@ -1,13 +1,16 @@
 package team.tnt.collectoralbum.mixins;
 
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.GameRules;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import team.tnt.collectoralbum.CollectorsAlbum;
 import team.tnt.collectoralbum.common.item.IDeathPersistableItem;
 
 @Mixin(ServerPlayer.class)
@@ -29,4 +32,19 @@ public class ServerPlayerMixin {
             }
         }
     }
+
+    @Inject(method = "initMenu", at = @At("TAIL"))
+    private void collectorsalbum$listenForAlbumChanges(AbstractContainerMenu menu, CallbackInfo ci) {
+        CollectorsAlbum.BOOST_HANDLER.onMenuInitialized((ServerPlayer) (Object) this, menu);
+    }
+
+    @Inject(method = "doCloseContainer", at = @At("TAIL"))
+    private void collectorsalbum$checkAlbumOnClose(CallbackInfo ci) {
+        CollectorsAlbum.BOOST_HANDLER.markAlbumCheck((ServerPlayer) (Object) this);
+    }
+
+    @Inject(method = "onEffectRemoved", at = @At("TAIL"))
+    private void collectorsalbum$refreshBoostsOnEffectRemoved(MobEffectInstance effect, CallbackInfo ci) {
+        CollectorsAlbum.BOOST_HANDLER.markDirty((ServerPlayer) (Object) this);
+    }
 }
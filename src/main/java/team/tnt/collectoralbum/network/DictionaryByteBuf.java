@@ -0,0 +1,53 @@
+package team.tnt.collectoralbum.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.DecoderException;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffer which writes each resource location only once, repeated locations are written as index
+ * into dictionary built while writing. Must be read in the same order as written.
+ */
+public class DictionaryByteBuf extends FriendlyByteBuf {
+
+    private final Object2IntMap<ResourceLocation> indices = new Object2IntOpenHashMap<>();
+    private final List<ResourceLocation> locations = new ArrayList<>();
+
+    public DictionaryByteBuf(ByteBuf source) {
+        super(source);
+        indices.defaultReturnValue(-1);
+    }
+
+    @Override
+    public FriendlyByteBuf writeResourceLocation(ResourceLocation location) {
+        int index = indices.getInt(location);
+        if (index >= 0) {
+            writeVarInt(index + 1);
+            return this;
+        }
+        indices.put(location, locations.size());
+        locations.add(location);
+        writeVarInt(0);
+        return super.writeResourceLocation(location);
+    }
+
+    @Override
+    public ResourceLocation readResourceLocation() {
+        int index = readVarInt();
+        if (index > 0) {
+            if (index > locations.size()) {
+                throw new DecoderException("Resource location index " + index + " out of dictionary bounds " + locations.size());
+            }
+            return locations.get(index - 1);
+        }
+        ResourceLocation location = super.readResourceLocation();
+        locations.add(location);
+        return location;
+    }
+}
@@ -11,8 +11,9 @@ import net.minecraft.server.level.ServerPlayer;
 import team.tnt.collectoralbum.CollectorsAlbum;
 import team.tnt.collectoralbum.client.CollectorsAlbumClient;
 import team.tnt.collectoralbum.network.api.*;
+import team.tnt.collectoralbum.network.packet.AlbumCacheMissPacket;
 import team.tnt.collectoralbum.network.packet.OpenCardScreenPacket;
-import team.tnt.collectoralbum.network.packet.RequestAlbumPagePacket;
+import team.tnt.collectoralbum.network.packet.ReportAlbumBoostsHashPacket;
 import team.tnt.collectoralbum.network.packet.RequestCardPackDropPacket;
 import team.tnt.collectoralbum.network.packet.SendAlbumBoostsPacket;
 
@@ -21,6 +22,8 @@ import java.util.function.BiConsumer;
 
 public class Networking {
 
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+
     // Packet dispatching
     // --------------------------------------------------------------------------
 
@@ -43,12 +46,26 @@ public class Networking {
 
     public static void registerServerReceivers() {
         registerClient2ServerReceiver(RequestCardPackDropPacket.class);
-        registerClient2ServerReceiver(RequestAlbumPagePacket.class);
+        registerClient2ServerReceiver(AlbumCacheMissPacket.class);
+        registerClient2ServerReceiver(ReportAlbumBoostsHashPacket.class);
     }
 
     // Utils
     // --------------------------------------------------------------------------
 
+    /**
+     * Encodes packet into heap buffer presized by encoder estimate. Buffer is handed to the connection as it is,
+     * vanilla never releases payload buffers, so it is neither pooled nor copied
+     */
+    public static <T> FriendlyByteBuf encode(IPacket<T> packet) {
+        IPacketEncoder<T> encoder = packet.getEncoder();
+        T data = packet.getPacketData();
+        int expectedSize = encoder.getExpectedSize(data);
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer(expectedSize == IPacketEncoder.UNKNOWN_SIZE ? DEFAULT_BUFFER_SIZE : expectedSize));
+        encoder.encode(data, buffer);
+        return buffer;
+    }
+
     public static ResourceLocation generateUniquePacketId(Class<? extends IPacket<?>> packetClass) {
         String packetClassName = packetClass.getSimpleName();
         return new ResourceLocation(CollectorsAlbum.MODID, packetClassName.replaceAll("\\B([A-Z])", "_$1").toLowerCase());
@@ -58,12 +75,7 @@ public class Networking {
     // --------------------------------------------------------------------------
 
     private static <T> void dispatch(IPacket<T> packet, BiConsumer<ResourceLocation, FriendlyByteBuf> dispatcher) {
-        ResourceLocation packetId = packet.getPacketId();
-        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
-        IPacketEncoder<T> encoder = packet.getEncoder();
-        T data = packet.getPacketData();
-        encoder.encode(data, buffer);
-        dispatcher.accept(packetId, buffer);
+        dispatcher.accept(packet.getPacketId(), encode(packet));
     }
 
     @Environment(EnvType.CLIENT)
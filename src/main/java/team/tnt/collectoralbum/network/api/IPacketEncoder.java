@@ -3,14 +3,39 @@ package team.tnt.collectoralbum.network.api;
 import net.minecraft.network.FriendlyByteBuf;
 
 import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
 
 @FunctionalInterface
 public interface IPacketEncoder<T> extends BiConsumer<T, FriendlyByteBuf> {
 
+    int UNKNOWN_SIZE = -1;
+
     void encode(T data, FriendlyByteBuf buffer);
 
+    /**
+     * @return expected amount of bytes written by this encoder, used to presize the packet buffer.
+     * Returns {@link #UNKNOWN_SIZE} by default
+     */
+    default int getExpectedSize(T data) {
+        return UNKNOWN_SIZE;
+    }
+
     @Override
     default void accept(T t, FriendlyByteBuf friendlyByteBuf) {
         this.encode(t, friendlyByteBuf);
     }
+
+    static <T> IPacketEncoder<T> sized(ToIntFunction<T> sizeFunction, IPacketEncoder<T> encoder) {
+        return new IPacketEncoder<>() {
+            @Override
+            public void encode(T data, FriendlyByteBuf buffer) {
+                encoder.encode(data, buffer);
+            }
+
+            @Override
+            public int getExpectedSize(T data) {
+                return sizeFunction.applyAsInt(data);
+            }
+        };
+    }
 }
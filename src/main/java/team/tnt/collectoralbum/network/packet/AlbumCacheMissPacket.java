@@ -0,0 +1,54 @@
+package team.tnt.collectoralbum.network.packet;
+
+import net.fabricmc.fabric.api.networking.v1.PacketSender;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.game.ServerPacketListener;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import team.tnt.collectoralbum.network.Networking;
+import team.tnt.collectoralbum.network.api.IPacketDecoder;
+import team.tnt.collectoralbum.network.api.IPacketEncoder;
+import team.tnt.collectoralbum.network.api.IServerPacket;
+import team.tnt.collectoralbum.server.AlbumSyncTracker;
+
+import java.util.UUID;
+
+public class AlbumCacheMissPacket implements IServerPacket<UUID> {
+
+    private static final ResourceLocation PACKET_ID = Networking.generateUniquePacketId(AlbumCacheMissPacket.class);
+    private final UUID albumId;
+
+    public AlbumCacheMissPacket() {
+        this(null);
+    }
+
+    public AlbumCacheMissPacket(UUID albumId) {
+        this.albumId = albumId;
+    }
+
+    @Override
+    public ResourceLocation getPacketId() {
+        return PACKET_ID;
+    }
+
+    @Override
+    public UUID getPacketData() {
+        return albumId;
+    }
+
+    @Override
+    public IPacketEncoder<UUID> getEncoder() {
+        return (uuid, buffer) -> buffer.writeUUID(uuid);
+    }
+
+    @Override
+    public IPacketDecoder<UUID> getDecoder() {
+        return FriendlyByteBuf::readUUID;
+    }
+
+    @Override
+    public void handleServersidePacket(MinecraftServer server, ServerPlayer player, ServerPacketListener listener, UUID packetData, PacketSender dispatcher) {
+        AlbumSyncTracker.onCacheMiss(player, packetData);
+    }
+}
@@ -1,5 +1,6 @@
 package team.tnt.collectoralbum.network.packet;
 
+import io.netty.handler.codec.DecoderException;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.networking.v1.PacketSender;
@@ -8,6 +9,8 @@ import net.minecraft.client.multiplayer.ClientPacketListener;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import team.tnt.collectoralbum.client.screen.CardOpenScreen;
+import team.tnt.collectoralbum.common.item.CardItem;
+import team.tnt.collectoralbum.common.item.CardRarity;
 import team.tnt.collectoralbum.network.Networking;
 import team.tnt.collectoralbum.network.api.IClientPacket;
 import team.tnt.collectoralbum.network.api.IPacketDecoder;
@@ -19,6 +22,9 @@ import java.util.List;
 public class OpenCardScreenPacket implements IClientPacket<OpenCardScreenPacket.Data> {
 
     private static final ResourceLocation PACKET_ID = Networking.generateUniquePacketId(OpenCardScreenPacket.class);
+    // card number, rarity and count
+    private static final int STACK_SIZE_ESTIMATE = 4;
+    private static final int NON_CARD_STACK = 0;
 
     private final Data data;
 
@@ -26,8 +32,8 @@ public class OpenCardScreenPacket implements IClientPacket<OpenCardScreenPacket.
         data = null;
     }
 
-    public OpenCardScreenPacket(List<ItemStack> drops) {
-        this.data = new Data(drops);
+    public OpenCardScreenPacket(List<ItemStack> drops, int packCount, int revealId) {
+        this.data = new Data(drops, packCount, revealId);
     }
 
     @Override
@@ -42,35 +48,61 @@ public class OpenCardScreenPacket implements IClientPacket<OpenCardScreenPacket.
 
     @Override
     public IPacketEncoder<Data> getEncoder() {
-        return (packetData, buffer) -> {
+        return IPacketEncoder.sized(packetData -> 15 + packetData.drops().size() * STACK_SIZE_ESTIMATE, (packetData, buffer) -> {
             List<ItemStack> list = packetData.drops();
-            buffer.writeInt(list.size());
+            buffer.writeVarInt(packetData.revealId());
+            buffer.writeVarInt(packetData.packCount());
+            buffer.writeVarInt(list.size());
             for (ItemStack stack : list) {
-                buffer.writeItem(stack);
+                if (stack.getItem() instanceof CardItem cardItem && !stack.hasTag()) {
+                    // card items are fully identified by card number and rarity
+                    buffer.writeVarInt(cardItem.getCardNumber() + 1);
+                    buffer.writeByte(cardItem.getCardRarity().ordinal());
+                } else {
+                    buffer.writeVarInt(NON_CARD_STACK);
+                    buffer.writeItem(stack);
+                }
+                // merged stacks of bulk opened packs may not fit into byte sized count
+                buffer.writeVarInt(stack.getCount());
             }
-        };
+        });
     }
 
     @Override
     public IPacketDecoder<Data> getDecoder() {
         return buffer -> {
-            int count = buffer.readInt();
+            int revealId = buffer.readVarInt();
+            int packCount = buffer.readVarInt();
+            int count = buffer.readVarInt();
             List<ItemStack> list = new ArrayList<>(count);
+            CardRarity[] rarities = CardRarity.values();
             for (int i = 0; i < count; i++) {
-                ItemStack stack = buffer.readItem();
+                int cardNumber = buffer.readVarInt();
+                ItemStack stack;
+                if (cardNumber == NON_CARD_STACK) {
+                    stack = buffer.readItem();
+                } else {
+                    int rarity = buffer.readUnsignedByte();
+                    CardItem cardItem = rarity < rarities.length ? CardItem.getVariant(cardNumber - 1, rarities[rarity]) : null;
+                    if (cardItem == null) {
+                        throw new DecoderException("Unknown card " + (cardNumber - 1) + " with rarity " + rarity);
+                    }
+                    stack = new ItemStack(cardItem);
+                }
+                stack.setCount(buffer.readVarInt());
                 list.add(stack);
             }
-            return new Data(list);
+            return new Data(list, packCount, revealId);
         };
     }
 
     @Environment(EnvType.CLIENT)
     @Override
     public void handleClientsidePacket(Minecraft client, ClientPacketListener listener, Data packetData, PacketSender dispatcher) {
-        CardOpenScreen screen = new CardOpenScreen(packetData.drops());
+        CardOpenScreen screen = new CardOpenScreen(packetData.drops(), packetData.packCount(), packetData.revealId());
         client.setScreen(screen);
     }
 
-    record Data(List<ItemStack> drops) {
+    record Data(List<ItemStack> drops, int packCount, int revealId) {
     }
 }
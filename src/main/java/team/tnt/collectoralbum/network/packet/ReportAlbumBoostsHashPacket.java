@@ -0,0 +1,71 @@
+package team.tnt.collectoralbum.network.packet;
+
+import net.fabricmc.fabric.api.networking.v1.PacketSender;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.game.ServerPacketListener;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import team.tnt.collectoralbum.CollectorsAlbum;
+import team.tnt.collectoralbum.network.Networking;
+import team.tnt.collectoralbum.network.api.IPacketDecoder;
+import team.tnt.collectoralbum.network.api.IPacketEncoder;
+import team.tnt.collectoralbum.network.api.IServerPacket;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sent by client after joining with hash of its album boosts, server sends the boosts only when they differ.
+ * Only first report of each connection is answered.
+ */
+public class ReportAlbumBoostsHashPacket implements IServerPacket<Long> {
+
+    private static final ResourceLocation PACKET_ID = Networking.generateUniquePacketId(ReportAlbumBoostsHashPacket.class);
+    private static final Set<UUID> REPORTED_PLAYERS = new HashSet<>();
+    private final long hash;
+
+    public ReportAlbumBoostsHashPacket() {
+        this(0L);
+    }
+
+    public ReportAlbumBoostsHashPacket(long hash) {
+        this.hash = hash;
+    }
+
+    @Override
+    public ResourceLocation getPacketId() {
+        return PACKET_ID;
+    }
+
+    @Override
+    public Long getPacketData() {
+        return hash;
+    }
+
+    @Override
+    public IPacketEncoder<Long> getEncoder() {
+        return IPacketEncoder.sized(data -> Long.BYTES, (data, buffer) -> buffer.writeLong(data));
+    }
+
+    @Override
+    public IPacketDecoder<Long> getDecoder() {
+        return FriendlyByteBuf::readLong;
+    }
+
+    @Override
+    public void handleServersidePacket(MinecraftServer server, ServerPlayer player, ServerPacketListener listener, Long packetData, PacketSender dispatcher) {
+        if (!REPORTED_PLAYERS.add(player.getUUID())) {
+            return;
+        }
+        CollectorsAlbum.ALBUM_CARD_BOOST_MANAGER.getBoosts()
+                .filter(boosts -> boosts.getNetworkHash() != packetData)
+                .ifPresent(boosts -> Networking.dispatchClientPacket(player, new SendAlbumBoostsPacket(boosts.getNetworkPayload())));
+    }
+
+    public static void onPlayerDisconnected(ServerGamePacketListenerImpl handler, MinecraftServer server) {
+        REPORTED_PLAYERS.remove(handler.getPlayer().getUUID());
+    }
+}
@@ -1,6 +1,7 @@
 package team.tnt.collectoralbum.network.packet;
 
 import net.fabricmc.fabric.api.networking.v1.PacketSender;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.game.ServerPacketListener;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
@@ -10,16 +11,24 @@ import team.tnt.collectoralbum.network.Networking;
 import team.tnt.collectoralbum.network.api.IPacketDecoder;
 import team.tnt.collectoralbum.network.api.IPacketEncoder;
 import team.tnt.collectoralbum.network.api.IServerPacket;
-import team.tnt.collectoralbum.network.packet.data.EmptyPacketData;
 import team.tnt.collectoralbum.server.OpenCardPackContextHolder;
 import team.tnt.collectoralbum.util.PlayerHelper;
 
 import java.util.List;
 import java.util.Optional;
 
-public class RequestCardPackDropPacket implements IServerPacket<EmptyPacketData> {
+public class RequestCardPackDropPacket implements IServerPacket<Integer> {
 
     private static final ResourceLocation PACKET_ID = Networking.generateUniquePacketId(RequestCardPackDropPacket.class);
+    private final int revealId;
+
+    public RequestCardPackDropPacket() {
+        this(0);
+    }
+
+    public RequestCardPackDropPacket(int revealId) {
+        this.revealId = revealId;
+    }
 
     @Override
     public ResourceLocation getPacketId() {
@@ -27,27 +36,23 @@ public class RequestCardPackDropPacket implements IServerPacket<EmptyPacketData>
     }
 
     @Override
-    public EmptyPacketData getPacketData() {
-        return EmptyPacketData.EMPTY;
+    public Integer getPacketData() {
+        return revealId;
     }
 
     @Override
-    public IPacketEncoder<EmptyPacketData> getEncoder() {
-        return EmptyPacketData.EMPTY;
+    public IPacketEncoder<Integer> getEncoder() {
+        return (data, buffer) -> buffer.writeVarInt(data);
     }
 
     @Override
-    public IPacketDecoder<EmptyPacketData> getDecoder() {
-        return EmptyPacketData.EMPTY;
+    public IPacketDecoder<Integer> getDecoder() {
+        return FriendlyByteBuf::readVarInt;
     }
 
     @Override
-    public void handleServersidePacket(MinecraftServer server, ServerPlayer player, ServerPacketListener listener, EmptyPacketData packetData, PacketSender dispatcher) {
-        Optional<List<ItemStack>> optional = OpenCardPackContextHolder.getContextAndClear(player);
-        optional.ifPresent(list -> {
-            for (ItemStack stack : list) {
-                PlayerHelper.giveItem(player, stack);
-            }
-        });
+    public void handleServersidePacket(MinecraftServer server, ServerPlayer player, ServerPacketListener listener, Integer packetData, PacketSender dispatcher) {
+        Optional<List<ItemStack>> optional = OpenCardPackContextHolder.getContextAndClear(player, packetData);
+        optional.ifPresent(list -> PlayerHelper.giveItems(player, list));
     }
 }
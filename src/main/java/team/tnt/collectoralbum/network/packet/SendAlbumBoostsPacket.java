@@ -5,15 +5,24 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientPacketListener;
 import net.minecraft.resources.ResourceLocation;
 import team.tnt.collectoralbum.CollectorsAlbum;
+import team.tnt.collectoralbum.data.boosts.AlbumCardBoostCollection;
 import team.tnt.collectoralbum.network.Networking;
 import team.tnt.collectoralbum.network.api.IClientPacket;
 import team.tnt.collectoralbum.network.api.IPacketDecoder;
 import team.tnt.collectoralbum.network.api.IPacketEncoder;
-import team.tnt.collectoralbum.network.packet.data.EmptyPacketData;
 
-public class SendAlbumBoostsPacket implements IClientPacket<EmptyPacketData> {
+public class SendAlbumBoostsPacket implements IClientPacket<AlbumCardBoostCollection.NetworkPayload> {
 
     private static final ResourceLocation PACKET_ID = Networking.generateUniquePacketId(SendAlbumBoostsPacket.class);
+    private final AlbumCardBoostCollection.NetworkPayload payload;
+
+    public SendAlbumBoostsPacket() {
+        this(null);
+    }
+
+    public SendAlbumBoostsPacket(AlbumCardBoostCollection.NetworkPayload payload) {
+        this.payload = payload;
+    }
 
     @Override
     public ResourceLocation getPacketId() {
@@ -21,26 +30,27 @@ public class SendAlbumBoostsPacket implements IClientPacket<EmptyPacketData> {
     }
 
     @Override
-    public EmptyPacketData getPacketData() {
-        return EmptyPacketData.EMPTY;
+    public AlbumCardBoostCollection.NetworkPayload getPacketData() {
+        return payload;
     }
 
     @Override
-    public IPacketEncoder<EmptyPacketData> getEncoder() {
-        return (data, buffer) -> CollectorsAlbum.ALBUM_CARD_BOOST_MANAGER.getBoosts()
-                .ifPresent(boosts -> boosts.encode(buffer));
+    public IPacketEncoder<AlbumCardBoostCollection.NetworkPayload> getEncoder() {
+        return IPacketEncoder.sized(data -> 18 + data.compressed().length, (data, buffer) -> {
+            buffer.writeLong(data.hash());
+            buffer.writeVarInt(data.size());
+            buffer.writeByteArray(data.compressed());
+        });
     }
 
     @Override
-    public IPacketDecoder<EmptyPacketData> getDecoder() {
-        return buffer -> {
-            CollectorsAlbum.ALBUM_CARD_BOOST_MANAGER.getBoosts()
-                    .ifPresent(boosts -> boosts.decode(buffer));
-            return EmptyPacketData.EMPTY;
-        };
+    public IPacketDecoder<AlbumCardBoostCollection.NetworkPayload> getDecoder() {
+        return buffer -> new AlbumCardBoostCollection.NetworkPayload(buffer.readLong(), buffer.readVarInt(), buffer.readByteArray());
     }
 
     @Override
-    public void handleClientsidePacket(Minecraft client, ClientPacketListener listener, EmptyPacketData packetData, PacketSender dispatcher) {
+    public void handleClientsidePacket(Minecraft client, ClientPacketListener listener, AlbumCardBoostCollection.NetworkPayload packetData, PacketSender dispatcher) {
+        CollectorsAlbum.ALBUM_CARD_BOOST_MANAGER.getBoosts()
+                .ifPresent(boosts -> boosts.readNetworkPayload(packetData));
     }
 }
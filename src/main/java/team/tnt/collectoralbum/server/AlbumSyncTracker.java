@@ -0,0 +1,102 @@
+package team.tnt.collectoralbum.server;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.world.item.ItemStack;
+import team.tnt.collectoralbum.common.ICardCategory;
+import team.tnt.collectoralbum.common.container.AlbumStorageFormat;
+import team.tnt.collectoralbum.common.container.AlbumSyncCodec;
+import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
+import team.tnt.collectoralbum.common.menu.AlbumMenu;
+
+import java.util.*;
+
+/**
+ * Tracks album contents already sent to each client, album opening data then contains only slots
+ * which changed since the version cached by the client. Wire format is defined by {@link AlbumSyncCodec}.
+ */
+public final class AlbumSyncTracker {
+
+    // client caches twice as many albums, so every album tracked here is still cached on the client
+    public static final int TRACKED_ALBUMS = 8;
+
+    private static final Map<UUID, Map<UUID, SentAlbum>> SENT_ALBUMS = new HashMap<>();
+
+    private AlbumSyncTracker() {
+    }
+
+    public static void writeAlbum(ServerPlayer player, ItemStack stack, FriendlyByteBuf buffer) {
+        writeAlbum(player.getUUID(), stack, buffer);
+    }
+
+    public static void writeAlbum(UUID playerId, ItemStack stack, FriendlyByteBuf buffer) {
+        CompoundTag tag = stack.getOrCreateTag();
+        CompoundTag cards = AlbumStorageFormat.getOrMigrateCards(tag);
+        UUID albumId = AlbumStorageFormat.getOrCreateAlbumId(tag);
+        int version = AlbumStorageFormat.getContentVersion(tag);
+        int checksum = AlbumStorageFormat.checksum(cards);
+        Map<UUID, SentAlbum> sentAlbums = SENT_ALBUMS.computeIfAbsent(playerId, uuid -> createTrackingMap());
+        SentAlbum sent = sentAlbums.get(albumId);
+        if (sent == null) {
+            AlbumSyncCodec.writeFull(buffer, albumId, version, checksum, stack);
+        } else {
+            // duplicated albums share id, so version alone doesn't guarantee same contents
+            List<AlbumSyncCodec.SlotChange> changes = sent.version() == version && sent.checksum() == checksum
+                    ? Collections.emptyList()
+                    : getChangedSlots(sent.cards(), cards);
+            AlbumSyncCodec.writeDelta(buffer, albumId, version, checksum, sent.version(), changes);
+        }
+        sentAlbums.put(albumId, new SentAlbum(version, checksum, cards.copy()));
+    }
+
+    /**
+     * Called when client doesn't have the album version it was sent delta for, next opening sends full album.
+     * Opened menu left card slots out of its initial contents, so they are resent now.
+     */
+    public static void onCacheMiss(ServerPlayer player, UUID albumId) {
+        Map<UUID, SentAlbum> sentAlbums = SENT_ALBUMS.get(player.getUUID());
+        if (sentAlbums != null) {
+            sentAlbums.remove(albumId);
+        }
+        if (player.containerMenu instanceof AlbumMenu menu) {
+            menu.sendAllDataToRemote();
+        }
+    }
+
+    public static void onPlayerDisconnected(ServerGamePacketListenerImpl handler, MinecraftServer server) {
+        SENT_ALBUMS.remove(handler.getPlayer().getUUID());
+    }
+
+    /**
+     * Packed card data is compared first, only slots which differ there are decoded into item stacks
+     */
+    private static List<AlbumSyncCodec.SlotChange> getChangedSlots(CompoundTag sentCards, CompoundTag cards) {
+        List<AlbumSyncCodec.SlotChange> changes = new ArrayList<>();
+        for (ICardCategory category : CardCategoryRegistry.getValues()) {
+            AlbumStorageFormat.CategoryData sent = AlbumStorageFormat.CategoryData.read(category, sentCards);
+            AlbumStorageFormat.CategoryData current = AlbumStorageFormat.CategoryData.read(category, cards);
+            if (current.hasSameContents(sent)) continue;
+            for (int i = 0; i < current.getCapacity(); i++) {
+                if (!current.hasSameItem(sent, i)) {
+                    changes.add(new AlbumSyncCodec.SlotChange(category.getIndex(), i, current.getItem(i)));
+                }
+            }
+        }
+        return changes;
+    }
+
+    private static Map<UUID, SentAlbum> createTrackingMap() {
+        return new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, SentAlbum> eldest) {
+                return size() > TRACKED_ALBUMS;
+            }
+        };
+    }
+
+    private record SentAlbum(int version, int checksum, CompoundTag cards) {
+    }
+}
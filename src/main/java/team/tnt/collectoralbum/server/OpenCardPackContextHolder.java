@@ -1,20 +1,120 @@
 package team.tnt.collectoralbum.server;
 
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.ItemStack;
+import team.tnt.collectoralbum.CollectorsAlbum;
+import team.tnt.collectoralbum.util.PlayerHelper;
 
 import java.util.*;
 
+/**
+ * Drops of opened card packs waiting for the client to finish card reveal. Each player has bounded queue
+ * of pending reveals, reveals which are pushed out of the queue, expire or are left after logout are given
+ * to the player directly, unless all cards have to be flipped to receive them.
+ */
 public class OpenCardPackContextHolder {
 
-    private static final Map<UUID, List<ItemStack>> PLAYER_DROPS_MAP = new HashMap<>();
+    private static final int EXPIRY_CHECK_INTERVAL = 20;
+    private static final Map<UUID, Deque<PendingReveal>> PLAYER_DROPS_MAP = new HashMap<>();
+    private static int pendingReveals;
+    private static int nextRevealId;
 
-    public static void store(ServerPlayer player, List<ItemStack> drops) {
-        PLAYER_DROPS_MAP.put(player.getUUID(), drops);
+    /**
+     * @return id of stored reveal, which client sends back when requesting the drops
+     */
+    public static int store(ServerPlayer player, List<ItemStack> drops) {
+        Deque<PendingReveal> queue = PLAYER_DROPS_MAP.computeIfAbsent(player.getUUID(), uuid -> new ArrayDeque<>());
+        while (queue.size() >= CollectorsAlbum.config.maxPendingReveals) {
+            releaseReveal(player, queue.pollFirst());
+        }
+        long expiresAt = player.getServer().getTickCount() + CollectorsAlbum.config.pendingRevealExpiry * 20L;
+        // kept non-negative, ids are written as varint
+        int id = nextRevealId;
+        nextRevealId = (nextRevealId + 1) & Integer.MAX_VALUE;
+        queue.addLast(new PendingReveal(id, drops, expiresAt));
+        ++pendingReveals;
+        return id;
     }
 
-    public static Optional<List<ItemStack>> getContextAndClear(ServerPlayer player) {
-        List<ItemStack> value = PLAYER_DROPS_MAP.remove(player.getUUID());
-        return Optional.ofNullable(value);
+    public static Optional<List<ItemStack>> getContextAndClear(ServerPlayer player, int revealId) {
+        Deque<PendingReveal> queue = PLAYER_DROPS_MAP.get(player.getUUID());
+        if (queue == null) {
+            return Optional.empty();
+        }
+        PendingReveal reveal = null;
+        Iterator<PendingReveal> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            PendingReveal pending = iterator.next();
+            if (pending.id() == revealId) {
+                iterator.remove();
+                reveal = pending;
+                break;
+            }
+        }
+        if (queue.isEmpty()) {
+            PLAYER_DROPS_MAP.remove(player.getUUID());
+        }
+        if (reveal == null) {
+            return Optional.empty();
+        }
+        --pendingReveals;
+        return Optional.of(reveal.drops());
+    }
+
+    /**
+     * @return amount of card pack reveals waiting for all players
+     */
+    public static int getPendingRevealCount() {
+        return pendingReveals;
+    }
+
+    public static void onServerTick(MinecraftServer server) {
+        int tick = server.getTickCount();
+        ProfilerFiller profiler = server.getProfiler();
+        profiler.incrementCounter("collectorsalbum_pending_reveals", pendingReveals);
+        if (tick % EXPIRY_CHECK_INTERVAL != 0 || PLAYER_DROPS_MAP.isEmpty()) {
+            return;
+        }
+        Iterator<Map.Entry<UUID, Deque<PendingReveal>>> iterator = PLAYER_DROPS_MAP.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Deque<PendingReveal>> entry = iterator.next();
+            ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
+            Deque<PendingReveal> queue = entry.getValue();
+            if (player == null) {
+                // should be flushed on disconnect already, there is nobody to give the drops to
+                pendingReveals -= queue.size();
+                iterator.remove();
+                continue;
+            }
+            while (!queue.isEmpty() && queue.peekFirst().expiresAt() <= tick) {
+                releaseReveal(player, queue.pollFirst());
+            }
+            if (queue.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public static void onPlayerDisconnected(ServerGamePacketListenerImpl handler, MinecraftServer server) {
+        ServerPlayer player = handler.getPlayer();
+        Deque<PendingReveal> queue = PLAYER_DROPS_MAP.remove(player.getUUID());
+        if (queue == null) return;
+        for (PendingReveal reveal : queue) {
+            releaseReveal(player, reveal);
+        }
+    }
+
+    private static void releaseReveal(ServerPlayer player, PendingReveal reveal) {
+        --pendingReveals;
+        // unflipped packs are not granted when flipping is required
+        if (!CollectorsAlbum.config.requireTurnAllCards) {
+            PlayerHelper.giveItems(player, reveal.drops());
+        }
+    }
+
+    private record PendingReveal(int id, List<ItemStack> drops, long expiresAt) {
     }
 }
@@ -0,0 +1,58 @@
+package team.tnt.collectoralbum.util;
+
+import net.minecraft.world.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ItemHelper {
+
+    /**
+     * Merges identical stacks into single stack, resulting stacks may exceed their max stack size
+     */
+    public static List<ItemStack> mergeStacks(List<ItemStack> stacks) {
+        List<ItemStack> merged = new ArrayList<>();
+        for (ItemStack stack : stacks) {
+            if (stack.isEmpty()) continue;
+            ItemStack existing = findSame(merged, stack);
+            if (existing != null) {
+                existing.grow(stack.getCount());
+            } else {
+                merged.add(stack.copy());
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Splits stack into stacks which respect max stack size of the item
+     */
+    public static List<ItemStack> splitStack(ItemStack stack) {
+        int maxSize = stack.getMaxStackSize();
+        if (stack.getCount() <= maxSize) {
+            return List.of(stack);
+        }
+        List<ItemStack> split = new ArrayList<>();
+        int remaining = stack.getCount();
+        while (remaining > 0) {
+            int count = Math.min(remaining, maxSize);
+            ItemStack part = stack.copy();
+            part.setCount(count);
+            split.add(part);
+            remaining -= count;
+        }
+        return split;
+    }
+
+    private static ItemStack findSame(List<ItemStack> stacks, ItemStack stack) {
+        for (ItemStack other : stacks) {
+            if (ItemStack.isSameItemSameTags(other, stack)) {
+                return other;
+            }
+        }
+        return null;
+    }
+
+    private ItemHelper() {
+    }
+}
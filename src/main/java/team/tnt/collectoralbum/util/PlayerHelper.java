@@ -1,42 +1,73 @@
 package team.tnt.collectoralbum.util;
 
-import net.minecraft.world.Container;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import team.tnt.collectoralbum.CollectorsAlbum;
+import team.tnt.collectoralbum.common.AlbumSlotCache;
 import team.tnt.collectoralbum.common.CardDefinition;
 import team.tnt.collectoralbum.common.ICardCategory;
 import team.tnt.collectoralbum.common.container.AlbumContainer;
-import team.tnt.collectoralbum.common.init.ItemRegistry;
 import team.tnt.collectoralbum.common.item.CardRarity;
 import team.tnt.collectoralbum.common.item.ICard;
 
+import java.util.List;
+
 public final class PlayerHelper {
 
     public static void giveItem(Player player, ItemStack itemStack) {
+        addOrDrop(player, itemStack);
+        moveCardsIntoAlbum(player);
+    }
+
+    /**
+     * Gives all items at once, stacks over their max stack size are split first
+     */
+    public static void giveItems(Player player, List<ItemStack> itemStacks) {
+        for (ItemStack itemStack : itemStacks) {
+            for (ItemStack part : ItemHelper.splitStack(itemStack)) {
+                addOrDrop(player, part);
+            }
+        }
+        moveCardsIntoAlbum(player);
+    }
+
+    private static void addOrDrop(Player player, ItemStack itemStack) {
         if (!player.addItem(itemStack)) {
             ItemEntity entity = new ItemEntity(player.level, player.getX(), player.getY(), player.getZ(), itemStack.copy());
             entity.setNoPickUpDelay();
             player.level.addFreshEntity(entity);
         }
+    }
+
+    private static void moveCardsIntoAlbum(Player player) {
         if (!CollectorsAlbum.config.autoEquipUnpackedCards)
             return;
+        ItemStack albumStack = AlbumSlotCache.findAlbum(player);
+        if (albumStack.isEmpty())
+            return;
+        AlbumContainer container = new AlbumContainer(albumStack);
         for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
-            tryMoveCardIntoAlbum(player.getInventory().getItem(i), player);
+            tryMoveCardIntoAlbum(player.getInventory().getItem(i), player, container);
         }
     }
     
     public static boolean tryMoveCardIntoAlbum(ItemStack stack, Player player) {
-        if (!(stack.getItem() instanceof ICard card)) {
+        if (!(stack.getItem() instanceof ICard)) {
             return false;
         }
-        ItemStack albumStack = findAlbum(player.getInventory());
+        ItemStack albumStack = AlbumSlotCache.findAlbum(player);
         if (albumStack.isEmpty()) {
             return false;
         }
-        AlbumContainer container = new AlbumContainer(albumStack);
+        return tryMoveCardIntoAlbum(stack, player, new AlbumContainer(albumStack));
+    }
+
+    public static boolean tryMoveCardIntoAlbum(ItemStack stack, Player player, AlbumContainer container) {
+        if (!(stack.getItem() instanceof ICard card)) {
+            return false;
+        }
         CardDefinition definition = card.getCard();
         ICardCategory cardCategory = definition.category();
         SimpleContainer simpleContainer = container.forCategory(cardCategory);
@@ -70,16 +101,6 @@ public final class PlayerHelper {
         return false;
     }
     
-    public static ItemStack findAlbum(Container container) {
-        for (int i = 0; i < container.getContainerSize(); i++) {
-            ItemStack stack = container.getItem(i);
-            if (stack.getItem() == ItemRegistry.ALBUM) {
-                return stack;
-            }
-        }
-        return ItemStack.EMPTY;
-    }
-
     private PlayerHelper() {
     }
 }
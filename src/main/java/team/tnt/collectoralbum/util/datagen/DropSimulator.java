@@ -0,0 +1,371 @@
+package team.tnt.collectoralbum.util.datagen;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.world.item.ItemStack;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import team.tnt.collectoralbum.CollectorsAlbum;
+import team.tnt.collectoralbum.common.init.CardDropProviderRegistry;
+import team.tnt.collectoralbum.data.packs.CardDropProviderType;
+import team.tnt.collectoralbum.data.packs.DropPlan;
+import team.tnt.collectoralbum.data.packs.ICardDropProvider;
+import team.tnt.collectoralbum.data.packs.IItemResolver;
+import team.tnt.collectoralbum.data.packs.ItemCardProvider;
+import team.tnt.collectoralbum.util.JsonHelper;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Headless Monte Carlo simulator of card pack drops. Card packs are parsed by the same providers as in game
+ * and compiled into {@link DropPlan} against a stub registry of item ids built from mod item tags,
+ * so no game bootstrap is required.
+ * <p>
+ * Arguments: [data directory] [opened packs per card pack] [simulated album collectors]
+ */
+public class DropSimulator {
+
+    private static final File DIR_DATA = new File("../src/main/resources/data/" + CollectorsAlbum.MODID);
+    private static final Logger LOGGER = LogManager.getLogger(DropSimulator.class);
+    // CardRarity cannot be loaded without game bootstrap, rarity is resolved from card item id prefix
+    private static final String[] RARITIES = { "common", "uncommon", "rare", "epic", "legendary", "mythical" };
+    private static final int LEAF_SIZE = 1 << 14;
+    private static final int COLLECTOR_LEAF_SIZE = 16;
+    private static final int MAX_PACKS_PER_ALBUM = 1_000_000;
+
+    private final File dataDir;
+    private final Map<String, List<TagEntry>> tags = new HashMap<>();
+    private final Map<String, Integer> itemIndices = new HashMap<>();
+    private final List<String> itemIds = new ArrayList<>();
+    private final Map<String, Integer> cardIndices = new HashMap<>();
+    private int[] itemToCard = new int[0];
+    private int[] itemToRarity = new int[0];
+
+    public DropSimulator(File dataDir) {
+        this.dataDir = dataDir;
+    }
+
+    public static void main(String[] args) {
+        File dataDir = args.length > 0 ? new File(args[0]) : DIR_DATA;
+        long samples = args.length > 1 ? Long.parseLong(args[1]) : 10_000_000L;
+        int collectors = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        long startTime = System.currentTimeMillis();
+        try {
+            new DropSimulator(dataDir).run(samples, collectors);
+        } catch (Exception e) {
+            LOGGER.fatal("Error:", e);
+        }
+        LOGGER.info("Simulation finished after {}ms", System.currentTimeMillis() - startTime);
+    }
+
+    public void run(long samples, int collectors) throws IOException {
+        loadTags();
+        File[] packFiles = new File(dataDir, "card_packs").listFiles((dir, name) -> name.endsWith(".json"));
+        if (packFiles == null) {
+            throw new IOException("Missing card_packs directory in " + dataDir.getAbsolutePath());
+        }
+        Arrays.sort(packFiles);
+        StubItemResolver resolver = new StubItemResolver();
+        // item existence is checked against stub registry instead of game item registry
+        CardDropProviderRegistry.registerProviderType(new CardDropProviderType<>(CardDropProviderRegistry.ITEM.identifier(), new ItemCardProvider.Serializer(resolver)));
+        Map<String, DropPlan<Integer>> packs = new LinkedHashMap<>();
+        for (File packFile : packFiles) {
+            try {
+                ICardDropProvider provider = CardDropProviderType.fromJson(readJson(packFile));
+                packs.put(packFile.getName(), provider.compile(resolver));
+            } catch (JsonParseException | IllegalArgumentException e) {
+                LOGGER.error("Unable to simulate card pack {}: {}", packFile.getName(), e.getMessage());
+            }
+        }
+        indexCards();
+        LOGGER.info("Loaded {} tags and {} card packs with {} distinct card items of {} cards", tags.size(), packs.size(), itemIds.size(), cardIndices.size());
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        SplittableRandom root = new SplittableRandom();
+        for (Map.Entry<String, DropPlan<Integer>> entry : packs.entrySet()) {
+            DropPlan<Integer> pack = entry.getValue();
+            long time = System.nanoTime();
+            long[] counts = pool.invoke(new SampleTask(pack, samples, root.split()));
+            double seconds = (System.nanoTime() - time) / 1.0E9;
+            report(entry.getKey(), samples, counts, seconds);
+            reportCompletion(pool, pack, counts, collectors, root.split());
+        }
+    }
+
+    private void report(String pack, long samples, long[] counts, double seconds) {
+        long total = Arrays.stream(counts).sum();
+        LOGGER.info("=== {} ===", pack);
+        LOGGER.info("Opened {} packs in {}s ({} packs/s), {} cards per pack", samples, String.format("%.2f", seconds), String.format("%.0f", samples / seconds), String.format("%.3f", total / (double) samples));
+        long[] byRarity = new long[RARITIES.length];
+        for (int i = 0; i < counts.length; i++) {
+            if (itemToRarity[i] >= 0) {
+                byRarity[itemToRarity[i]] += counts[i];
+            }
+        }
+        for (int i = 0; i < RARITIES.length; i++) {
+            LOGGER.info("Rarity {}: {}%", RARITIES[i], String.format("%.4f", byRarity[i] * 100.0 / total));
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                LOGGER.info("Card {}: {}%", itemIds.get(i), String.format("%.5f", counts[i] * 100.0 / total));
+            }
+        }
+    }
+
+    private void reportCompletion(ForkJoinPool pool, DropPlan<Integer> pack, long[] counts, int collectors, SplittableRandom random) {
+        if (collectors <= 0) return;
+        boolean[] reachable = new boolean[cardIndices.size()];
+        for (int i = 0; i < counts.length; i++) {
+            reachable[itemToCard[i]] |= counts[i] > 0;
+        }
+        for (boolean cardReachable : reachable) {
+            if (!cardReachable) {
+                LOGGER.info("Album cannot be completed from this pack, some cards were never dropped");
+                return;
+            }
+        }
+        long[] result = pool.invoke(new CompletionTask(pack, collectors, random));
+        long completed = result[0];
+        if (completed == 0) {
+            LOGGER.info("Album cannot be completed from this pack within {} packs", MAX_PACKS_PER_ALBUM);
+            return;
+        }
+        double packs = result[1] / (double) completed;
+        double drawn = result[2] / (double) completed;
+        double duplicateRate = 1.0 - cardIndices.size() / drawn;
+        LOGGER.info("Expected packs to complete album: {} ({} of {} collectors finished)", String.format("%.1f", packs), completed, collectors);
+        LOGGER.info("Duplicate rate at completion: {}%", String.format("%.2f", duplicateRate * 100.0));
+    }
+
+    private void loadTags() throws IOException {
+        File[] tagFiles = new File(dataDir, "tags/items").listFiles((dir, name) -> name.endsWith(".json"));
+        if (tagFiles == null) {
+            throw new IOException("Missing tags/items directory in " + dataDir.getAbsolutePath());
+        }
+        for (File tagFile : tagFiles) {
+            String id = CollectorsAlbum.MODID + ":" + tagFile.getName().replace(".json", "");
+            List<TagEntry> values = new ArrayList<>();
+            for (JsonElement element : GsonHelper.getAsJsonArray(JsonHelper.asObject(readJson(tagFile)), "values")) {
+                values.add(TagEntry.fromJson(element));
+            }
+            tags.put(id, values);
+        }
+        // all tagged items belong to the album, including those which are not dropped by any pack
+        Set<String> items = new TreeSet<>();
+        for (String tag : tags.keySet()) {
+            items.addAll(resolveTag(tag, new HashSet<>()));
+        }
+        items.forEach(this::indexOf);
+    }
+
+    private void indexCards() {
+        itemToCard = new int[itemIds.size()];
+        itemToRarity = new int[itemIds.size()];
+        for (int index = 0; index < itemIds.size(); index++) {
+            String item = itemIds.get(index);
+            String path = item.substring(item.indexOf(':') + 1);
+            itemToRarity[index] = -1;
+            String card = path;
+            for (int i = 0; i < RARITIES.length; i++) {
+                if (path.startsWith(RARITIES[i] + "_")) {
+                    itemToRarity[index] = i;
+                    card = path.substring(RARITIES[i].length() + 1);
+                }
+            }
+            itemToCard[index] = cardIndices.computeIfAbsent(card, k -> cardIndices.size());
+        }
+    }
+
+    private int indexOf(String item) {
+        Integer index = itemIndices.get(item);
+        if (index == null) {
+            index = itemIds.size();
+            itemIndices.put(item, index);
+            itemIds.add(item);
+        }
+        return index;
+    }
+
+    private Set<String> resolveTag(String tag, Set<String> visited) {
+        Set<String> result = new LinkedHashSet<>();
+        if (!visited.add(tag)) return result;
+        for (TagEntry entry : tags.getOrDefault(tag, Collections.emptyList())) {
+            if (!entry.id().startsWith("#")) {
+                result.add(entry.id());
+                continue;
+            }
+            String nested = entry.id().substring(1);
+            if (!tags.containsKey(nested)) {
+                if (entry.required()) {
+                    throw new IllegalArgumentException("Tag " + tag + " references undefined tag " + nested);
+                }
+                continue;
+            }
+            result.addAll(resolveTag(nested, visited));
+        }
+        return result;
+    }
+
+    private static JsonElement readJson(File file) throws IOException {
+        try (Reader reader = new FileReader(file)) {
+            return JsonParser.parseReader(reader);
+        }
+    }
+
+    /**
+     * Tag value in either string form or object form with id and required flag
+     */
+    private record TagEntry(String id, boolean required) {
+
+        static TagEntry fromJson(JsonElement element) {
+            if (element.isJsonObject()) {
+                JsonObject object = element.getAsJsonObject();
+                return new TagEntry(GsonHelper.getAsString(object, "id"), GsonHelper.getAsBoolean(object, "required", true));
+            }
+            return new TagEntry(GsonHelper.convertToString(element, "value"), true);
+        }
+    }
+
+    /**
+     * Stub item registry built from loaded tags, items are resolved into their indices and any item id is accepted
+     */
+    private final class StubItemResolver implements IItemResolver<Integer> {
+
+        @Override
+        public Integer getItem(ResourceLocation id) {
+            return indexOf(id.toString());
+        }
+
+        @Override
+        public List<Integer> getTagItems(ResourceLocation tag) {
+            String id = tag.toString();
+            if (!tags.containsKey(id)) {
+                throw new IllegalArgumentException("Undefined tag " + id);
+            }
+            List<Integer> items = resolveTag(id, new HashSet<>()).stream().map(DropSimulator.this::indexOf).toList();
+            if (items.isEmpty()) {
+                // in game empty tags fall back to provider tree, which cannot be evaluated without game registries
+                throw new IllegalArgumentException("Empty tag " + id);
+            }
+            return items;
+        }
+    }
+
+    private static final class CountingOutput implements DropPlan.Output<Integer> {
+
+        private final IntConsumer consumer;
+
+        CountingOutput(IntConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(Integer item) {
+            consumer.accept(item);
+        }
+
+        @Override
+        public void acceptAll(List<ItemStack> drops) {
+            throw new UnsupportedOperationException("Provider trees cannot be simulated");
+        }
+    }
+
+    private final class SampleTask extends RecursiveTask<long[]> {
+
+        private final DropPlan<Integer> pack;
+        private final long samples;
+        private final SplittableRandom random;
+
+        SampleTask(DropPlan<Integer> pack, long samples, SplittableRandom random) {
+            this.pack = pack;
+            this.samples = samples;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (samples > LEAF_SIZE) {
+                SampleTask left = new SampleTask(pack, samples / 2, random.split());
+                left.fork();
+                long[] right = new SampleTask(pack, samples - samples / 2, random).compute();
+                long[] result = left.join();
+                for (int i = 0; i < result.length; i++) {
+                    result[i] += right[i];
+                }
+                return result;
+            }
+            long[] counts = new long[itemIds.size()];
+            CountingOutput output = new CountingOutput(item -> ++counts[item]);
+            for (long i = 0; i < samples; i++) {
+                pack.sample(random, output);
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Opens packs until all cards are collected, result contains completed collectors, opened packs and drawn cards
+     */
+    private final class CompletionTask extends RecursiveTask<long[]> {
+
+        private final DropPlan<Integer> pack;
+        private final int collectors;
+        private final SplittableRandom random;
+
+        CompletionTask(DropPlan<Integer> pack, int collectors, SplittableRandom random) {
+            this.pack = pack;
+            this.collectors = collectors;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (collectors > COLLECTOR_LEAF_SIZE) {
+                CompletionTask left = new CompletionTask(pack, collectors / 2, random.split());
+                left.fork();
+                long[] right = new CompletionTask(pack, collectors - collectors / 2, random).compute();
+                long[] result = left.join();
+                for (int i = 0; i < result.length; i++) {
+                    result[i] += right[i];
+                }
+                return result;
+            }
+            long[] result = new long[3];
+            int cardCount = cardIndices.size();
+            for (int collector = 0; collector < collectors; collector++) {
+                boolean[] owned = new boolean[cardCount];
+                int[] missing = { cardCount };
+                long[] drawn = { 0 };
+                CountingOutput output = new CountingOutput(item -> {
+                    ++drawn[0];
+                    int card = itemToCard[item];
+                    if (!owned[card]) {
+                        owned[card] = true;
+                        --missing[0];
+                    }
+                });
+                int packs = 0;
+                while (missing[0] > 0 && packs < MAX_PACKS_PER_ALBUM) {
+                    pack.sample(random, output);
+                    ++packs;
+                }
+                if (missing[0] == 0) {
+                    ++result[0];
+                    result[1] += packs;
+                    result[2] += drawn[0];
+                }
+            }
+            return result;
+        }
+    }
+}
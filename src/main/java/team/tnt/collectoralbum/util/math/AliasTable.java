@@ -0,0 +1,111 @@
+package team.tnt.collectoralbum.util.math;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Vose's alias method over integer weights. Table is built in O(n) and each sample costs
+ * two random numbers regardless of table size. Thresholds are kept as integers scaled by total weight,
+ * so the sampled distribution matches the weights exactly.
+ */
+public final class AliasTable {
+
+    public static final int DOUBLE_RESOLUTION = 1 << 30;
+
+    private final int total;
+    private final int[] thresholds;
+    private final int[] aliases;
+
+    private AliasTable(int total, int[] thresholds, int[] aliases) {
+        this.total = total;
+        this.thresholds = thresholds;
+        this.aliases = aliases;
+    }
+
+    public static AliasTable create(int[] weights) {
+        int size = weights.length;
+        long total = 0;
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight cannot be negative");
+            }
+            total += weight;
+        }
+        if (size == 0 || total < 1 || total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Alias table must contain atleast one entry with weight value over 0");
+        }
+        // weights scaled by table size, column is full when its scaled weight equals total
+        long[] scaled = new long[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = (long) weights[i] * size;
+            if (scaled[i] < total) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        int[] thresholds = new int[size];
+        int[] aliases = new int[size];
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            thresholds[less] = (int) scaled[less];
+            aliases[less] = more;
+            scaled[more] -= total - scaled[less];
+            if (scaled[more] < total) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // with exact arithmetic only full columns can remain
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            thresholds[index] = (int) total;
+            aliases[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            thresholds[index] = (int) total;
+            aliases[index] = index;
+        }
+        return new AliasTable((int) total, thresholds, aliases);
+    }
+
+    /**
+     * Creates table from fractional weights, which are quantized to {@value #DOUBLE_RESOLUTION} total weight
+     */
+    public static AliasTable create(double[] weights) {
+        double total = 0.0;
+        for (double weight : weights) {
+            if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weight must be finite non-negative number");
+            }
+            total += weight;
+        }
+        int[] quantized = new int[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0.0) {
+                // positive weights must stay selectable after rounding
+                quantized[i] = Math.max(1, (int) Math.round(weights[i] / total * DOUBLE_RESOLUTION));
+            }
+        }
+        return create(quantized);
+    }
+
+    public int sample(RandomGenerator random) {
+        int column = random.nextInt(thresholds.length);
+        return random.nextInt(total) < thresholds[column] ? column : aliases[column];
+    }
+
+    public int size() {
+        return thresholds.length;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,41 @@
+package team.tnt.collectoralbum.util.math;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import team.tnt.collectoralbum.CollectorsAlbum;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random sources for drop generation. By default drops use thread local random, which is safe to use
+ * from any thread. With seeded pack drops enabled each pack opening gets its own generator seeded from
+ * world seed, player, pack and game time, so the drops can be reproduced.
+ */
+public final class DropRandom {
+
+    private DropRandom() {
+    }
+
+    public static RandomGenerator shared() {
+        return ThreadLocalRandom.current();
+    }
+
+    public static RandomGenerator forPackOpening(ServerPlayer player, ResourceLocation pack) {
+        if (!CollectorsAlbum.config.seededPackDrops) {
+            return shared();
+        }
+        return new SplittableRandom(packSeed(player.getLevel().getSeed(), player.getUUID(), pack, player.level.getGameTime()));
+    }
+
+    public static long packSeed(long worldSeed, UUID player, ResourceLocation pack, long gameTime) {
+        long seed = HashCommon.murmurHash3(worldSeed);
+        seed = HashCommon.murmurHash3(seed ^ player.getMostSignificantBits());
+        seed = HashCommon.murmurHash3(seed ^ player.getLeastSignificantBits());
+        seed = HashCommon.murmurHash3(seed ^ pack.hashCode());
+        return HashCommon.murmurHash3(seed ^ gameTime);
+    }
+}
@@ -6,25 +6,36 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
+import java.util.random.RandomGenerator;
 
 public class WeightedRandom<T> implements Supplier<T> {
 
-    private final Random random;
+    // tables up to this size are sampled by linear scan, which is cheaper than alias lookup for them
+    public static final int LINEAR_SCAN_THRESHOLD = 4;
+
+    // null when entries are sampled by thread local random
+    private final RandomGenerator random;
     private final T[] weightedEntries;
-    private final ToIntFunction<T> weightProvider;
+    private final int[] weights;
     private final int computedTotal;
+    private final AliasTable aliasTable;
 
-    private WeightedRandom(Random random, T[] weightedEntries, ToIntFunction<T> weightProvider) {
+    private WeightedRandom(RandomGenerator random, T[] weightedEntries, ToIntFunction<T> weightProvider) {
+        if (weightedEntries == null || weightedEntries.length == 0) {
+            throw new IllegalArgumentException("Weighted random must contain atleast one entry with weight value over 0");
+        }
         this.random = random;
         this.weightedEntries = weightedEntries;
-        this.weightProvider = weightProvider;
-        this.computedTotal = this.computeTotal();
-        if (weightedEntries == null || weightedEntries.length == 0 || computedTotal < 1) {
+        this.weights = Arrays.stream(weightedEntries).mapToInt(weightProvider).toArray();
+        this.computedTotal = Arrays.stream(weights).sum();
+        if (computedTotal < 1) {
             throw new IllegalArgumentException("Weighted random must contain atleast one entry with weight value over 0");
         }
+        this.aliasTable = weights.length > LINEAR_SCAN_THRESHOLD ? AliasTable.create(weights) : null;
     }
 
     public static <T> WeightedRandom<T> createWithSeed(long seed, T[] weightedEntries, ToIntFunction<T> weightProvider) {
@@ -37,8 +48,7 @@ public class WeightedRandom<T> implements Supplier<T> {
     }
 
     public static <T> WeightedRandom<T> create(T[] weightedEntries, ToIntFunction<T> weightProvider) {
-        Random rng = new Random();
-        return new WeightedRandom<>(rng, weightedEntries, weightProvider);
+        return new WeightedRandom<>(null, weightedEntries, weightProvider);
     }
 
     public static <T extends IWeighted> WeightedRandom<T> create(T[] entries) {
@@ -47,24 +57,23 @@ public class WeightedRandom<T> implements Supplier<T> {
 
     @Override
     public T get() {
+        return get(random != null ? random : ThreadLocalRandom.current());
+    }
+
+    public T get(RandomGenerator random) {
+        if (aliasTable != null) {
+            return weightedEntries[aliasTable.sample(random)];
+        }
         int buffer = random.nextInt(computedTotal);
-        for (int i = weightedEntries.length - 1; i >= 0; i--) {
-            T value = weightedEntries[i];
-            buffer -= weightProvider.applyAsInt(value);
+        for (int i = weights.length - 1; i >= 0; i--) {
+            buffer -= weights[i];
             if (buffer < 0) {
-                return value;
+                return weightedEntries[i];
             }
         }
         throw new IllegalStateException("Weighted value couldn't be selected for unknown reason");
     }
 
-    private int computeTotal() {
-        return Arrays.stream(weightedEntries)
-                .mapToInt(weightProvider)
-                .reduce(Integer::sum)
-                .orElse(1);
-    }
-
     @FunctionalInterface
     public interface IWeighted extends Supplier<Integer> {
 
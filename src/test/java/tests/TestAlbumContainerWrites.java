@@ -0,0 +1,91 @@
+package tests;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import team.tnt.collectoralbum.common.container.AlbumContainer;
+import team.tnt.collectoralbum.common.container.AlbumStorageFormat;
+import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
+
+@Testable
+public class TestAlbumContainerWrites {
+
+    @BeforeAll
+    public static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @Test
+    public void testOnlyChangedSlotsAreWritten() {
+        ItemStack album = new ItemStack(Items.BOOK);
+        AlbumContainer container = new AlbumContainer(album);
+        SimpleContainer tools = container.forCategory(CardCategoryRegistry.TOOLS);
+        tools.setItem(0, new ItemStack(Items.STONE));
+        container.forCategory(CardCategoryRegistry.ARMOR).setItem(0, new ItemStack(Items.DIRT));
+
+        CompoundTag cards = album.getTag().getCompound(AlbumStorageFormat.TAG_CARDS);
+        CompoundTag armorTag = cards.getCompound(CardCategoryRegistry.ARMOR.getId().toString());
+        // modified in place, which is not tracked and thus must not be picked up by next write
+        tools.getItem(0).setHoverName(Component.literal("untracked"));
+        tools.setItem(1, new ItemStack(Items.STONE));
+
+        cards = album.getTag().getCompound(AlbumStorageFormat.TAG_CARDS);
+        Assertions.assertSame(armorTag, cards.getCompound(CardCategoryRegistry.ARMOR.getId().toString()));
+        SimpleContainer reloaded = new AlbumContainer(album).forCategory(CardCategoryRegistry.TOOLS);
+        Assertions.assertFalse(reloaded.getItem(0).hasCustomHoverName());
+        Assertions.assertTrue(reloaded.getItem(1).is(Items.STONE));
+    }
+
+    @Test
+    public void testWriteCostIsIndependentOfFilledSlots() {
+        ItemStack album = new ItemStack(Items.BOOK);
+        SimpleContainer tools = new AlbumContainer(album).forCategory(CardCategoryRegistry.TOOLS);
+        int capacity = tools.getContainerSize();
+        CountingTag[] tags = new CountingTag[capacity];
+        for (int i = 0; i < capacity - 1; i++) {
+            tags[i] = new CountingTag();
+            ItemStack stack = new ItemStack(Items.STONE);
+            stack.setTag(tags[i]);
+            tools.setItem(i, stack);
+        }
+        int copiesPerWrite = tags[0].copies;
+        Assertions.assertTrue(copiesPerWrite > 0);
+        for (int i = 0; i < capacity - 1; i++) {
+            // each stack is serialized only by its own write, so earlier slots are not copied again
+            Assertions.assertEquals(copiesPerWrite, tags[i].copies, "Slot " + i);
+            tags[i].copies = 0;
+        }
+
+        tags[capacity - 1] = new CountingTag();
+        ItemStack stack = new ItemStack(Items.STONE);
+        stack.setTag(tags[capacity - 1]);
+        tools.setItem(capacity - 1, stack);
+        for (int i = 0; i < capacity - 1; i++) {
+            Assertions.assertEquals(0, tags[i].copies, "Slot " + i);
+        }
+        Assertions.assertEquals(copiesPerWrite, tags[capacity - 1].copies);
+    }
+
+    /**
+     * Tag counting its copies, stacks are copied and saved only when their slot is written
+     */
+    private static final class CountingTag extends CompoundTag {
+
+        private int copies;
+
+        @Override
+        public CompoundTag copy() {
+            ++copies;
+            return super.copy();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package tests;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.SharedConstants;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import team.tnt.collectoralbum.client.AlbumCache;
+import team.tnt.collectoralbum.common.container.AlbumContainer;
+import team.tnt.collectoralbum.common.container.AlbumStorageFormat;
+import team.tnt.collectoralbum.common.container.AlbumSyncCodec;
+import team.tnt.collectoralbum.common.container.IAlbumCache;
+import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
+import team.tnt.collectoralbum.server.AlbumSyncTracker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Testable
+public class TestAlbumSync {
+
+    @BeforeAll
+    public static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @Test
+    public void testDeltaContainsOnlyChangedSlots() {
+        UUID player = UUID.randomUUID();
+        ItemStack album = new ItemStack(Items.BOOK);
+        setCard(album, 0);
+
+        FriendlyByteBuf full = write(player, album);
+        Assertions.assertEquals(AlbumSyncCodec.MODE_FULL, readHeader(full).mode());
+        assertSameCards(album, read(full));
+
+        FriendlyByteBuf unchanged = write(player, album);
+        Header header = readHeader(unchanged);
+        Assertions.assertEquals(AlbumSyncCodec.MODE_DELTA, header.mode());
+        Assertions.assertEquals(header.version(), header.baseVersion());
+        Assertions.assertEquals(0, header.changes());
+        assertSameCards(album, read(unchanged));
+
+        setCard(album, 1);
+        FriendlyByteBuf changed = write(player, album);
+        header = readHeader(changed);
+        Assertions.assertEquals(AlbumSyncCodec.MODE_DELTA, header.mode());
+        Assertions.assertEquals(1, header.changes());
+        assertSameCards(album, read(changed));
+    }
+
+    @Test
+    public void testDuplicatedAlbumWithSameVersionIsCompared() {
+        UUID player = UUID.randomUUID();
+        ItemStack album = new ItemStack(Items.BOOK);
+        setCard(album, 0);
+        AlbumStorageFormat.getOrCreateAlbumId(album.getOrCreateTag());
+        ItemStack duplicate = album.copy();
+        setCard(album, 1);
+        setCard(duplicate, 2);
+        Assertions.assertEquals(AlbumStorageFormat.getContentVersion(album.getTag()), AlbumStorageFormat.getContentVersion(duplicate.getTag()));
+
+        read(write(player, album));
+        FriendlyByteBuf buffer = write(player, duplicate);
+        Header header = readHeader(buffer);
+        Assertions.assertEquals(AlbumSyncCodec.MODE_DELTA, header.mode());
+        Assertions.assertEquals(2, header.changes());
+        assertSameCards(duplicate, read(buffer));
+    }
+
+    @Test
+    public void testChecksumMismatchRequestsFullAlbum() {
+        UUID player = UUID.randomUUID();
+        ItemStack album = new ItemStack(Items.BOOK);
+        setCard(album, 0);
+        RecordingCache cache = new RecordingCache();
+        AlbumSyncCodec.readAlbum(write(player, album), cache);
+        UUID albumId = AlbumStorageFormat.getOrCreateAlbumId(album.getTag());
+        // client copy diverges from what server remembers sending
+        setCard(cache.albums.get(albumId), 3);
+        cache.versions.put(albumId, AlbumStorageFormat.getContentVersion(album.getTag()));
+        Assertions.assertTrue(cache.misses.isEmpty());
+
+        setCard(album, 1);
+        ItemStack result = AlbumSyncCodec.readAlbum(write(player, album), cache);
+        Assertions.assertEquals(List.of(albumId), cache.misses);
+        Assertions.assertTrue(new AlbumContainer(result).forCategory(CardCategoryRegistry.TOOLS).getItem(0).isEmpty());
+    }
+
+    private static ItemStack read(FriendlyByteBuf buffer) {
+        return AlbumSyncCodec.readAlbum(buffer, AlbumCache.INSTANCE);
+    }
+
+    private static void setCard(ItemStack album, int slot) {
+        new AlbumContainer(album).forCategory(CardCategoryRegistry.TOOLS).setItem(slot, new ItemStack(Items.STONE));
+    }
+
+    private static FriendlyByteBuf write(UUID player, ItemStack album) {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        AlbumSyncTracker.writeAlbum(player, album, buffer);
+        return buffer;
+    }
+
+    private static Header readHeader(FriendlyByteBuf buffer) {
+        buffer.markReaderIndex();
+        buffer.readUUID();
+        int version = buffer.readVarInt();
+        int mode = buffer.readByte();
+        buffer.readInt();
+        Header header = mode == AlbumSyncCodec.MODE_FULL
+                ? new Header(mode, version, -1, -1)
+                : new Header(mode, version, buffer.readVarInt(), buffer.readVarInt());
+        buffer.resetReaderIndex();
+        return header;
+    }
+
+    private static void assertSameCards(ItemStack expected, ItemStack actual) {
+        AlbumContainer expectedContainer = new AlbumContainer(expected);
+        AlbumContainer actualContainer = new AlbumContainer(actual);
+        for (int i = 0; i < CardCategoryRegistry.TOOLS.getCapacity(); i++) {
+            ItemStack expectedCard = expectedContainer.forCategory(CardCategoryRegistry.TOOLS).getItem(i);
+            ItemStack actualCard = actualContainer.forCategory(CardCategoryRegistry.TOOLS).getItem(i);
+            Assertions.assertTrue(ItemStack.matches(expectedCard, actualCard), "Slot " + i);
+        }
+    }
+
+    private static final class RecordingCache implements IAlbumCache {
+
+        private final Map<UUID, ItemStack> albums = new HashMap<>();
+        private final Map<UUID, Integer> versions = new HashMap<>();
+        private final List<UUID> misses = new ArrayList<>();
+
+        @Override
+        public ItemStack get(UUID albumId, int version) {
+            Integer cached = versions.get(albumId);
+            return cached != null && cached == version ? albums.get(albumId) : null;
+        }
+
+        @Override
+        public void put(UUID albumId, int version, ItemStack album) {
+            albums.put(albumId, album);
+            versions.put(albumId, version);
+        }
+
+        @Override
+        public void onMiss(UUID albumId) {
+            albums.remove(albumId);
+            versions.remove(albumId);
+            misses.add(albumId);
+        }
+    }
+
+    private record Header(int mode, int version, int baseVersion, int changes) {
+    }
+}
@@ -0,0 +1,95 @@
+package tests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import team.tnt.collectoralbum.util.math.AliasTable;
+import team.tnt.collectoralbum.util.math.WeightedRandom;
+
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+@Testable
+public class TestAliasTable {
+
+    private static final int SAMPLES = 200_000;
+    // chi-square critical values at p = 0.001, indexed by degrees of freedom
+    private static final double[] CRITICAL_VALUES = { 0, 10.828, 13.816, 16.266, 18.467, 20.515, 22.458, 24.322, 26.124 };
+
+    @Test
+    public void testAliasTableDistribution() {
+        int[] weights = { 1, 2, 3, 10, 0, 50, 7, 27 };
+        AliasTable table = AliasTable.create(weights);
+        Random random = new Random(0L);
+        assertDistribution(weights, () -> table.sample(random));
+    }
+
+    @Test
+    public void testWeightedRandomMatchesLinearScan() {
+        Integer[] small = { 5, 0, 12 };
+        Integer[] large = { 1, 2, 3, 10, 0, 50, 7, 27 };
+        WeightedRandom<Integer> linear = WeightedRandom.createWithSeed(1L, indices(small), i -> small[i]);
+        WeightedRandom<Integer> alias = WeightedRandom.createWithSeed(2L, indices(large), i -> large[i]);
+        assertDistribution(unbox(small), linear::get);
+        assertDistribution(unbox(large), alias::get);
+    }
+
+    @Test
+    public void testUniformAndSingleEntry() {
+        int[] uniform = { 4, 4, 4, 4, 4, 4 };
+        AliasTable table = AliasTable.create(uniform);
+        Random random = new Random(3L);
+        assertDistribution(uniform, () -> table.sample(random));
+        AliasTable single = AliasTable.create(new int[] { 0, 9, 0 });
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(1, single.sample(random));
+        }
+    }
+
+    @Test
+    public void testInvalidWeights() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AliasTable.create(new int[0]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AliasTable.create(new int[] { 0, 0 }));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AliasTable.create(new int[] { 3, -1 }));
+    }
+
+    private static void assertDistribution(int[] weights, IntSupplier sampler) {
+        long[] observed = new long[weights.length];
+        for (int i = 0; i < SAMPLES; i++) {
+            ++observed[sampler.getAsInt()];
+        }
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        double chiSquare = 0.0;
+        int degreesOfFreedom = -1;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] == 0) {
+                Assertions.assertEquals(0L, observed[i], "Entry with zero weight was selected");
+                continue;
+            }
+            double expected = (double) SAMPLES * weights[i] / total;
+            double diff = observed[i] - expected;
+            chiSquare += diff * diff / expected;
+            ++degreesOfFreedom;
+        }
+        Assertions.assertTrue(chiSquare < CRITICAL_VALUES[degreesOfFreedom], "Chi-square " + chiSquare + " exceeds critical value");
+    }
+
+    private static Integer[] indices(Integer[] weights) {
+        Integer[] indices = new Integer[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    private static int[] unbox(Integer[] values) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package tests;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import team.tnt.collectoralbum.common.AlbumStats;
+import team.tnt.collectoralbum.common.init.CardCategoryRegistry;
+import team.tnt.collectoralbum.common.item.CardRarity;
+import team.tnt.collectoralbum.data.boosts.ActiveBoostContext;
+import team.tnt.collectoralbum.data.boosts.CardBoostConditionType;
+import team.tnt.collectoralbum.data.boosts.CompiledConditions;
+import team.tnt.collectoralbum.data.boosts.IBoostContext;
+import team.tnt.collectoralbum.data.boosts.ICardBoostCondition;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+@Testable
+public class TestCompiledConditions {
+
+    private static final Path BOOSTS_DIR = Path.of("src/main/resources/data/collectorsalbum/card_boosts");
+
+    @Test
+    public void testCompiledMatchesInterpreted() throws IOException {
+        List<ICardBoostCondition[]> conditionSets = loadShippedConditions();
+        Assertions.assertFalse(conditionSets.isEmpty());
+        Random random = new Random(0L);
+        int size = CardCategoryRegistry.getCount() * CardRarity.values().length;
+        for (int i = 0; i < 2000; i++) {
+            int[] counts = new int[size];
+            for (int j = 0; j < size; j++) {
+                counts[j] = random.nextInt(random.nextBoolean() ? 31 : 6);
+            }
+            AlbumStats stats = AlbumStats.ofCounts(counts);
+            IBoostContext context = new ActiveBoostContext(null, stats);
+            for (ICardBoostCondition[] conditions : conditionSets) {
+                boolean expected = true;
+                for (ICardBoostCondition condition : conditions) {
+                    expected &= condition.isValid(context);
+                }
+                Assertions.assertEquals(expected, CompiledConditions.compile(conditions).test(stats, context));
+            }
+        }
+    }
+
+    private static List<ICardBoostCondition[]> loadShippedConditions() throws IOException {
+        List<ICardBoostCondition[]> result = new ArrayList<>();
+        try (Stream<Path> files = Files.list(BOOSTS_DIR)) {
+            for (Path file : files.toList()) {
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    collectConditions(JsonParser.parseReader(reader), result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void collectConditions(JsonElement element, List<ICardBoostCondition[]> result) {
+        if (element.isJsonArray()) {
+            element.getAsJsonArray().forEach(child -> collectConditions(child, result));
+        } else if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            if (object.has("conditions")) {
+                JsonArray array = object.getAsJsonArray("conditions");
+                ICardBoostCondition[] conditions = new ICardBoostCondition[array.size()];
+                for (int i = 0; i < conditions.length; i++) {
+                    conditions[i] = CardBoostConditionType.fromJson(array.get(i));
+                }
+                result.add(conditions);
+            }
+            object.entrySet().forEach(entry -> collectConditions(entry.getValue(), result));
+        }
+    }
+}
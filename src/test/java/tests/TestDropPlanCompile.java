@@ -0,0 +1,106 @@
+package tests;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import net.minecraft.SharedConstants;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import team.tnt.collectoralbum.common.init.CardDropProviderRegistry;
+import team.tnt.collectoralbum.data.packs.CardDropProviderType;
+import team.tnt.collectoralbum.data.packs.DropPlan;
+import team.tnt.collectoralbum.data.packs.ICardDropProvider;
+import team.tnt.collectoralbum.data.packs.IItemResolver;
+import team.tnt.collectoralbum.data.packs.ItemCardProvider;
+
+import java.util.List;
+import java.util.Map;
+
+@Testable
+public class TestDropPlanCompile {
+
+    private static final IItemResolver<String> STUB = new IItemResolver<>() {
+
+        private final Map<String, List<String>> tags = Map.of(
+                "test:ab", List.of("test:a", "test:b"),
+                "test:empty", List.of()
+        );
+
+        @Override
+        public String getItem(ResourceLocation id) {
+            return id.toString();
+        }
+
+        @Override
+        public List<String> getTagItems(ResourceLocation tag) {
+            return tags.getOrDefault(tag.toString(), List.of());
+        }
+    };
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        // test items don't exist in game registry, so item providers are parsed against the stub
+        CardDropProviderRegistry.registerProviderType(new CardDropProviderType<>(CardDropProviderRegistry.ITEM.identifier(), new ItemCardProvider.Serializer(STUB)));
+    }
+
+    @Test
+    public void testUnknownItemIsRejected() {
+        ItemCardProvider.Serializer serializer = new ItemCardProvider.Serializer();
+        Assertions.assertThrows(JsonSyntaxException.class, () -> serializer.fromJson(JsonParser.parseString("""
+                { "item": "collectorsalbum:missing_card" }""")));
+        Assertions.assertDoesNotThrow(() -> serializer.fromJson(JsonParser.parseString("""
+                { "item": "minecraft:stone" }""")));
+    }
+
+    @Test
+    public void testWeightedPicksAreMerged() {
+        DropPlan<String> plan = compile("""
+                { "type": "collectorsalbum:weighted", "providers": [
+                  { "weight": 3, "provider": { "type": "collectorsalbum:tag", "tag": "test:ab" } },
+                  { "weight": 1, "provider": { "type": "collectorsalbum:item", "item": "test:a" } }
+                ] }""");
+        DropPlan.Pick<String> pick = Assertions.assertInstanceOf(DropPlan.Pick.class, plan);
+        Assertions.assertEquals(List.of("test:a", "test:b"), pick.items());
+        Assertions.assertEquals(0.625, pick.probabilities()[0], 1.0E-9);
+        Assertions.assertEquals(0.375, pick.probabilities()[1], 1.0E-9);
+    }
+
+    @Test
+    public void testWeightedTreesBecomeChoice() {
+        DropPlan<String> plan = compile("""
+                { "type": "collectorsalbum:weighted", "providers": [
+                  { "weight": 1, "provider": { "type": "collectorsalbum:item", "item": "test:a" } },
+                  { "weight": 1, "provider": { "type": "collectorsalbum:repeat", "min": 2, "provider": { "type": "collectorsalbum:item", "item": "test:b" } } }
+                ] }""");
+        DropPlan.Choice<String> choice = Assertions.assertInstanceOf(DropPlan.Choice.class, plan);
+        Assertions.assertInstanceOf(DropPlan.Repeat.class, choice.plans().get(1));
+    }
+
+    @Test
+    public void testEmptyTagIsLeftToTree() {
+        DropPlan<String> plan = compile("""
+                { "type": "collectorsalbum:tag", "tag": "test:empty" }""");
+        Assertions.assertInstanceOf(DropPlan.Tree.class, plan);
+    }
+
+    @Test
+    public void testProviderWithoutDropsIsRejected() {
+        CardDropProviderRegistry.registerProviderType(new CardDropProviderType<ICardDropProvider>(new ResourceLocation("test", "broken"), data -> new ICardDropProvider() {
+        }));
+        JsonElement element = JsonParser.parseString("""
+                { "type": "test:broken" }""");
+        Assertions.assertThrows(JsonSyntaxException.class, () -> CardDropProviderType.fromJson(element));
+    }
+
+    private static DropPlan<String> compile(String json) {
+        JsonElement element = JsonParser.parseString(json);
+        ICardDropProvider provider = CardDropProviderType.fromJson(element);
+        return provider.compile(STUB);
+    }
+}
@@ -0,0 +1,47 @@
+package tests;
+
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import team.tnt.collectoralbum.network.Networking;
+import team.tnt.collectoralbum.network.packet.OpenCardScreenPacket;
+import team.tnt.collectoralbum.network.packet.ReportAlbumBoostsHashPacket;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+
+@Testable
+public class TestPacketEncoding {
+
+    private static final int ITERATIONS = 100_000;
+    // buffer wrapper, heap buffer and its backing array, anything above means payload was copied or regrown
+    private static final long MAX_BYTES_PER_PACKET = 160;
+
+    @Test
+    public void testSizedPacketsAreNotRegrown() {
+        FriendlyByteBuf hash = Networking.encode(new ReportAlbumBoostsHashPacket(42L));
+        Assertions.assertEquals(Long.BYTES, hash.capacity());
+        Assertions.assertEquals(Long.BYTES, hash.readableBytes());
+        FriendlyByteBuf reveal = Networking.encode(new OpenCardScreenPacket(Collections.emptyList(), 1, 7));
+        Assertions.assertEquals(15, reveal.capacity());
+    }
+
+    @Test
+    public void testEncodingAllocatesSingleBuffer() {
+        ReportAlbumBoostsHashPacket packet = new ReportAlbumBoostsHashPacket(42L);
+        for (int i = 0; i < ITERATIONS; i++) {
+            Networking.encode(packet);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long written = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            written += Networking.encode(packet).readableBytes();
+        }
+        long perPacket = (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+        Assertions.assertEquals((long) Long.BYTES * ITERATIONS, written);
+        Assertions.assertTrue(perPacket <= MAX_BYTES_PER_PACKET, "Allocated " + perPacket + " bytes per packet");
+    }
+}